@@ -0,0 +1,149 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load generator for the player API.
+ *
+ * <p>Run with {@code java LoadBenchmark.java --base-url http://localhost:8080 --label platform}
+ * (JDK 21+). See {@code run.sh} to benchmark both thread modes back to back.
+ */
+public class LoadBenchmark {
+
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        String label = options.getOrDefault("label", "run");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        double writeRatio = Double.parseDouble(options.getOrDefault("write-ratio", "0.1"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = ID.matcher(client.send(get(baseUrl + "/api/players"), HttpResponse.BodyHandlers.ofString()).body());
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No players returned by " + baseUrl);
+        }
+
+        run(client, baseUrl, ids, concurrency, warmup, writeRatio, seed);
+        Result result = run(client, baseUrl, ids, concurrency, duration, writeRatio, seed);
+
+        long[] latencies = result.latencies();
+        Arrays.sort(latencies);
+        System.out.printf("%-10s concurrency=%d requests=%d errors=%d throughput=%.0f req/s p50=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                label, concurrency, latencies.length, result.errors(),
+                latencies.length / (double) duration.toSeconds(),
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+    }
+
+    private static Result run(HttpClient client, String baseUrl, List<Long> ids, int concurrency,
+                              Duration duration, double writeRatio, long seed) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Result>> workers = new ArrayList<>(concurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                SplittableRandom random = new SplittableRandom(seed + worker);
+                workers.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    long errors = 0;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = nextRequest(baseUrl, ids, writeRatio, random);
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors++;
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors++;
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return new Result(Arrays.copyOf(latencies, count), errors);
+                }));
+            }
+        }
+
+        long[] merged = new long[0];
+        long errors = 0;
+        for (Future<Result> worker : workers) {
+            Result result = worker.get();
+            int offset = merged.length;
+            merged = Arrays.copyOf(merged, offset + result.latencies().length);
+            System.arraycopy(result.latencies(), 0, merged, offset, result.latencies().length);
+            errors += result.errors();
+        }
+        return new Result(merged, errors);
+    }
+
+    private static HttpRequest nextRequest(String baseUrl, List<Long> ids, double writeRatio, SplittableRandom random) {
+        long id = ids.get(random.nextInt(ids.size()));
+        if (random.nextDouble() < writeRatio) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/players/" + id))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString("{\"shortname\":\"B" + random.nextInt(1000) + "\"}"))
+                    .build();
+        }
+        return switch (random.nextInt(4)) {
+            case 0 -> get(baseUrl + "/api/players");
+            case 1 -> get(baseUrl + "/api/players/" + id);
+            case 2 -> get(baseUrl + "/api/players/ranking?limit=10");
+            default -> get(baseUrl + "/api/players/country/best-ratio");
+        };
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return options;
+    }
+
+    private record Result(long[] latencies, long errors) {
+    }
+}
@@ -0,0 +1,46 @@
+#!/bin/sh
+# Benchmarks the API with platform threads, then with virtual threads.
+# Requires JDK 21+ on the PATH (or JAVA_HOME). Extra arguments are passed to LoadBenchmark,
+# e.g. ./benchmarks/load/run.sh --concurrency 1000 --duration 60
+set -e
+
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+PORT=${PORT:-18080}
+STARTUP_TIMEOUT=${STARTUP_TIMEOUT:-60}
+
+(cd "$ROOT" && mvn -B -q -DskipTests package)
+JAR=$(ls "$ROOT"/target/tennis-api-*-exec.jar | head -n 1)
+
+for MODE in platform virtual; do
+    DATA=$(mktemp -d)
+    VIRTUAL=false
+    [ "$MODE" = virtual ] && VIRTUAL=true
+
+    "$JAVA" -jar "$JAR" \
+        --server.port="$PORT" \
+        --spring.threads.virtual.enabled="$VIRTUAL" \
+        --tennis.persistence.journal.enabled=true \
+        --tennis.persistence.journal.directory="$DATA" \
+        --logging.level.com.tennis=WARN > "$DATA/app.log" 2>&1 &
+    APP=$!
+
+    WAITED=0
+    until curl -sf "http://localhost:$PORT/api/players" > /dev/null; do
+        if ! kill -0 "$APP" 2>/dev/null || [ "$WAITED" -ge "$STARTUP_TIMEOUT" ]; then
+            echo "The $MODE server did not start:" >&2
+            cat "$DATA/app.log" >&2
+            kill "$APP" 2>/dev/null || true
+            rm -rf "$DATA"
+            exit 1
+        fi
+        sleep 1
+        WAITED=$((WAITED + 1))
+    done
+
+    "$JAVA" "$ROOT/benchmarks/load/LoadBenchmark.java" --base-url "http://localhost:$PORT" --label "$MODE" "$@"
+
+    kill "$APP"
+    wait "$APP" 2>/dev/null || true
+    rm -rf "$DATA"
+done
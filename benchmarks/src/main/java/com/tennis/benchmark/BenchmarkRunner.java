@@ -0,0 +1,31 @@
+package com.tennis.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks once per thread count listed in {@code -Dthreads} (default {@code 1,4}),
+ * with the GC profiler enabled and results written to {@code jmh-result-<threads>t.json}.
+ * Any standard JMH option (benchmark regexp, {@code -p players=...}, {@code -jvmArgs}...) is passed through.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        for (String threads : System.getProperty("threads", "1,4").split(",")) {
+            int count = Integer.parseInt(threads.trim());
+            Options options = new OptionsBuilder()
+                    .parent(commandLine)
+                    .threads(count)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("jmh-result-" + count + "t.json")
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.tennis.benchmark;
+
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.dataset.PlayerDatasetGenerator;
+import com.tennis.infrastructure.adapter.in.rest.dto.PlayerStatsResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerModelBenchmark {
+
+    private static final int SAMPLE_SIZE = 4096;
+
+    private List<Player> players;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        players = new PlayerDatasetGenerator(42).generate(SAMPLE_SIZE);
+    }
+
+    @Benchmark
+    public double winRate() {
+        return nextPlayer().getData().getWinRate();
+    }
+
+    @Benchmark
+    public String bmi() {
+        return nextPlayer().getData().getBMI();
+    }
+
+    @Benchmark
+    public PlayerStatsResponse fromDomain() {
+        return PlayerStatsResponse.fromDomain(nextPlayer());
+    }
+
+    private Player nextPlayer() {
+        next = (next + 1) & (SAMPLE_SIZE - 1);
+        return players.get(next);
+    }
+}
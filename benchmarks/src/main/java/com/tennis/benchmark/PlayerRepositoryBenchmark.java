@@ -0,0 +1,57 @@
+package com.tennis.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerName;
+import com.tennis.infrastructure.dataset.PlayerDatasetGenerator;
+import com.tennis.infrastructure.adapter.out.persistence.JsonPlayerRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerRepositoryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int players;
+
+    private JsonPlayerRepository repository;
+    private List<Player> dataset;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new JsonPlayerRepository(new ObjectMapper());
+        dataset = new PlayerDatasetGenerator(42).generate(players);
+        repository.saveAll(dataset);
+    }
+
+    @Benchmark
+    public Player saveExisting() {
+        Player player = dataset.get(ThreadLocalRandom.current().nextInt(players));
+        repository.save(player);
+        return player;
+    }
+
+    @Benchmark
+    public Player findById() {
+        return repository.findById(ThreadLocalRandom.current().nextLong(players) + 1).orElseThrow();
+    }
+
+    @Benchmark
+    public List<Player> findAll() {
+        return repository.findAll();
+    }
+
+    @Benchmark
+    public List<Player> suggest() {
+        Player player = dataset.get(ThreadLocalRandom.current().nextInt(players));
+        return repository.suggest(PlayerName.normalize(player.getLastname()).substring(0, 2), 10);
+    }
+}
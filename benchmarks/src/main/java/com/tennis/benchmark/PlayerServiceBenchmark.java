@@ -0,0 +1,54 @@
+package com.tennis.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.domain.model.CountryMetric;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.dataset.PlayerDatasetGenerator;
+import com.tennis.domain.model.Statistic;
+import com.tennis.domain.service.PlayerService;
+import com.tennis.infrastructure.adapter.out.persistence.JsonPlayerRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int players;
+
+    private PlayerService playerService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JsonPlayerRepository repository = new JsonPlayerRepository(new ObjectMapper());
+        repository.saveAll(new PlayerDatasetGenerator(42).generate(players));
+        playerService = new PlayerService(repository);
+    }
+
+    @Benchmark
+    public Statistic countryWithBestWinRatio() {
+        return playerService.getCountryWithBestWinRatio();
+    }
+
+    @Benchmark
+    public List<Statistic> countryLeaderboard() {
+        return playerService.getCountryLeaderboard(CountryMetric.WIN_RATIO, true);
+    }
+
+    @Benchmark
+    public List<Player> rankingFirstPage() {
+        return playerService.getPlayersSortedByRank(0, 100);
+    }
+
+    @Benchmark
+    public List<Player> fullRanking() {
+        return playerService.getPlayersSortedByRank();
+    }
+}
@@ -0,0 +1,86 @@
+package com.tennis.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.adapter.out.persistence.JsonPlayerRepository;
+import com.tennis.infrastructure.adapter.out.persistence.PlayerJournal;
+import com.tennis.infrastructure.dataset.PlayerDatasetGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent insert throughput of the JSON repository, with and without the journal. Each iteration starts
+ * from an empty repository so the measured inserts do not depend on how many players earlier iterations
+ * left behind. Run it with {@code -Dthreads=1,2,4,8} to see how far the striped write path scales.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class PlayerWriteThroughputBenchmark {
+
+    private static final int PROTOTYPES = 10_000;
+
+    @Param({"false", "true"})
+    private boolean journal;
+
+    private List<Player> prototypes;
+    private JsonPlayerRepository repository;
+    private PlayerJournal playerJournal;
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        prototypes = new PlayerDatasetGenerator(42).generate(PROTOTYPES);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        if (journal) {
+            directory = Files.createTempDirectory("tennis-journal");
+            playerJournal = new PlayerJournal(directory, Duration.ofHours(1));
+            repository = new JsonPlayerRepository(new ObjectMapper(), Optional.of(playerJournal),
+                    Optional.empty(), Optional.empty());
+        } else {
+            repository = new JsonPlayerRepository(new ObjectMapper());
+        }
+        repository.init();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        if (playerJournal != null) {
+            playerJournal.close();
+            playerJournal = null;
+        }
+        if (directory != null) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+            directory = null;
+        }
+    }
+
+    @Benchmark
+    public Player save() {
+        Player player = prototypes.get(ThreadLocalRandom.current().nextInt(PROTOTYPES)).copy();
+        player.setId(null);
+        repository.save(player);
+        return player;
+    }
+}
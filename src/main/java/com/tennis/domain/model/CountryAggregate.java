@@ -0,0 +1,168 @@
+package com.tennis.domain.model;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveTask;
+
+public class CountryAggregate {
+
+    public static final int PARALLEL_THRESHOLD = 8_192;
+
+    private final String countryCode;
+    private int playerCount;
+    private int playersWithData;
+    private double winRateSum;
+    private int bmiCount;
+    private double bmiSum;
+    private final Map<PlayerMetric, IntHistogram> histograms = new EnumMap<>(PlayerMetric.class);
+
+    public CountryAggregate(String countryCode) {
+        this.countryCode = countryCode;
+        for (PlayerMetric metric : PlayerMetric.values()) {
+            histograms.put(metric, metric.newHistogram());
+        }
+    }
+
+    public static Collection<CountryAggregate> groupByCountry(Collection<Player> players) {
+        List<Player> list = players instanceof List<Player> playerList ? playerList : List.copyOf(players);
+        return new GroupByCountryTask(list, 0, list.size()).invoke().values();
+    }
+
+    public static Map<String, CountryAggregate> mergeAll(Map<String, CountryAggregate> left,
+                                                         Map<String, CountryAggregate> right) {
+        right.forEach((code, aggregate) -> left.merge(code, aggregate, CountryAggregate::merge));
+        return left;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public synchronized void add(Player player) {
+        apply(player, 1);
+    }
+
+    public synchronized void remove(Player player) {
+        apply(player, -1);
+    }
+
+    public synchronized boolean isEmpty() {
+        return playerCount == 0;
+    }
+
+    public synchronized Statistic toStatistic() {
+        return Statistic.builder()
+                .countryCode(countryCode)
+                .winRatio(playersWithData > 0 ? winRateSum / playersWithData : 0.0)
+                .averageBMI(bmiCount > 0 ? bmiSum / bmiCount : 0.0)
+                .medianHeight(histograms.get(PlayerMetric.HEIGHT).median())
+                .build();
+    }
+
+    public synchronized PercentileReport percentiles(PlayerMetric metric, List<Double> percentiles) {
+        IntHistogram histogram = histograms.get(metric);
+        Map<Double, Double> values = new LinkedHashMap<>();
+        percentiles.forEach(percentile -> values.put(percentile, histogram.percentile(percentile)));
+        return PercentileReport.builder()
+                .countryCode(countryCode)
+                .metric(metric)
+                .count(histogram.getCount())
+                .percentiles(values)
+                .build();
+    }
+
+    public synchronized void add(double winRate, double bmi, Integer height, Integer weight, Integer age) {
+        playerCount++;
+        accumulate(1, winRate, bmi,
+                PlayerMetric.HEIGHT.toBinValue(height),
+                PlayerMetric.WEIGHT.toBinValue(weight),
+                PlayerMetric.AGE.toBinValue(age));
+    }
+
+    public synchronized void addWithoutData() {
+        playerCount++;
+    }
+
+    public synchronized CountryAggregate merge(CountryAggregate other) {
+        playerCount += other.playerCount;
+        playersWithData += other.playersWithData;
+        winRateSum += other.winRateSum;
+        bmiCount += other.bmiCount;
+        bmiSum += other.bmiSum;
+        other.histograms.forEach((metric, histogram) -> histograms.get(metric).merge(histogram));
+        return this;
+    }
+
+    private void apply(Player player, int delta) {
+        playerCount += delta;
+        if (player.hasData()) {
+            PlayerData data = player.getData();
+            accumulate(delta,
+                    data.getWinRate(),
+                    player.hasValidBMIData() ? player.calculateBMI() : Double.NaN,
+                    PlayerMetric.HEIGHT.valueOf(data),
+                    PlayerMetric.WEIGHT.valueOf(data),
+                    PlayerMetric.AGE.valueOf(data));
+        }
+    }
+
+    private void accumulate(int delta, double winRate, double bmi, Integer height, Integer weight, Integer age) {
+        playersWithData += delta;
+        winRateSum = playersWithData > 0 ? winRateSum + delta * winRate : 0.0;
+
+        if (!Double.isNaN(bmi)) {
+            bmiCount += delta;
+            bmiSum = bmiCount > 0 ? bmiSum + delta * bmi : 0.0;
+        }
+
+        record(PlayerMetric.HEIGHT, height, delta);
+        record(PlayerMetric.WEIGHT, weight, delta);
+        record(PlayerMetric.AGE, age, delta);
+    }
+
+    private void record(PlayerMetric metric, Integer value, int delta) {
+        if (value == null) {
+            return;
+        }
+        if (delta > 0) {
+            histograms.get(metric).add(value);
+        } else {
+            histograms.get(metric).remove(value);
+        }
+    }
+
+    private static final class GroupByCountryTask extends RecursiveTask<Map<String, CountryAggregate>> {
+        private final List<Player> players;
+        private final int from;
+        private final int to;
+
+        private GroupByCountryTask(List<Player> players, int from, int to) {
+            this.players = players;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<String, CountryAggregate> compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                Map<String, CountryAggregate> aggregates = new HashMap<>();
+                for (Player player : players.subList(from, to)) {
+                    if (player.hasValidCountry()) {
+                        aggregates.computeIfAbsent(player.getCountry().getCode(), CountryAggregate::new).apply(player, 1);
+                    }
+                }
+                return aggregates;
+            }
+
+            int middle = (from + to) >>> 1;
+            GroupByCountryTask right = new GroupByCountryTask(players, middle, to);
+            right.fork();
+            Map<String, CountryAggregate> left = new GroupByCountryTask(players, from, middle).compute();
+            return mergeAll(left, right.join());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.tennis.domain.model;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+public enum CountryMetric {
+    COUNTRY_CODE("countryCode", Comparator.comparing(Statistic::getCountryCode)),
+    WIN_RATIO("winRatio", Comparator.comparingDouble(Statistic::getWinRatio)),
+    AVERAGE_BMI("averageBMI", Comparator.comparingDouble(Statistic::getAverageBMI)),
+    MEDIAN_HEIGHT("medianHeight", Comparator.comparingDouble(Statistic::getMedianHeight));
+
+    private final String field;
+    private final Comparator<Statistic> comparator;
+
+    CountryMetric(String field, Comparator<Statistic> comparator) {
+        this.field = field;
+        this.comparator = comparator;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public Comparator<Statistic> comparator(boolean descending) {
+        return (descending ? comparator.reversed() : comparator)
+                .thenComparing(Statistic::getCountryCode);
+    }
+
+    public static CountryMetric fromField(String field) {
+        return Arrays.stream(values())
+                .filter(metric -> metric.field.equalsIgnoreCase(field))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown country metric: " + field));
+    }
+}
@@ -0,0 +1,118 @@
+package com.tennis.domain.model;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Counting histogram of integer values, one bin per unit over {@code [min, max]}. Values outside that range
+ * are counted exactly in a sorted overflow map, so an outlier never moves the percentiles. Percentiles are a
+ * scan over the bins, linearly interpolated between the two nearest ranks, so the median of an even count is
+ * the mean of the two middle values.
+ */
+public class IntHistogram {
+
+    private final int min;
+    private final long[] bins;
+    private final NavigableMap<Integer, Long> outliers = new TreeMap<>();
+    private long count;
+
+    public IntHistogram(int min, int max) {
+        if (max < min) {
+            throw new IllegalArgumentException("Histogram max must be greater than min");
+        }
+        this.min = min;
+        this.bins = new long[max - min + 1];
+    }
+
+    public void add(int value) {
+        if (inRange(value)) {
+            bins[value - min]++;
+        } else {
+            outliers.merge(value, 1L, Long::sum);
+        }
+        count++;
+    }
+
+    public void remove(int value) {
+        if (inRange(value)) {
+            if (bins[value - min] > 0) {
+                bins[value - min]--;
+                count--;
+            }
+            return;
+        }
+
+        Long seen = outliers.get(value);
+        if (seen != null) {
+            if (seen > 1) {
+                outliers.put(value, seen - 1);
+            } else {
+                outliers.remove(value);
+            }
+            count--;
+        }
+    }
+
+    public void merge(IntHistogram other) {
+        if (other.min != min || other.bins.length != bins.length) {
+            throw new IllegalArgumentException("Cannot merge histograms with different ranges");
+        }
+        for (int i = 0; i < bins.length; i++) {
+            bins[i] += other.bins[i];
+        }
+        other.outliers.forEach((value, seen) -> outliers.merge(value, seen, Long::sum));
+        count += other.count;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, got " + percentile);
+        }
+        if (count == 0) {
+            return 0.0;
+        }
+
+        double rank = (count - 1) * percentile / 100.0;
+        long lowerRank = (long) Math.floor(rank);
+        long upperRank = (long) Math.ceil(rank);
+        int lower = valueAtRank(lowerRank);
+        int upper = upperRank == lowerRank ? lower : valueAtRank(upperRank);
+        return lower + (upper - lower) * (rank - lowerRank);
+    }
+
+    public double median() {
+        return percentile(50);
+    }
+
+    private int valueAtRank(long rank) {
+        long seen = 0;
+        for (Map.Entry<Integer, Long> below : outliers.headMap(min, false).entrySet()) {
+            seen += below.getValue();
+            if (seen > rank) {
+                return below.getKey();
+            }
+        }
+        for (int i = 0; i < bins.length; i++) {
+            seen += bins[i];
+            if (seen > rank) {
+                return min + i;
+            }
+        }
+        for (Map.Entry<Integer, Long> above : outliers.tailMap(min, false).entrySet()) {
+            seen += above.getValue();
+            if (seen > rank) {
+                return above.getKey();
+            }
+        }
+        return outliers.isEmpty() ? min + bins.length - 1 : outliers.lastKey();
+    }
+
+    private boolean inRange(int value) {
+        return value >= min && (long) value - min < bins.length;
+    }
+}
@@ -0,0 +1,112 @@
+package com.tennis.domain.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable rolling window of the last match results, most recent in the lowest bit. Pushing a result returns
+ * a new history; once the window is full the oldest result rolls out. A history is never built from more
+ * results than its window can hold, so the {@code last} array of a player always round-trips unchanged.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class MatchHistory {
+
+    public static final int MAX_WINDOW = Long.SIZE;
+
+    private final int window;
+    private final long results;
+    private final int length;
+
+    private MatchHistory(int window, long results, int length) {
+        checkWindow(window);
+        if (length < 0 || length > window) {
+            throw new IllegalArgumentException("A match history of window " + window + " cannot hold "
+                    + length + " results");
+        }
+        this.window = window;
+        this.length = length;
+        this.results = results & mask(length);
+    }
+
+    public static MatchHistory empty(int window) {
+        return new MatchHistory(window, 0L, 0);
+    }
+
+    public static MatchHistory of(List<Integer> results) {
+        return of(results, MAX_WINDOW);
+    }
+
+    public static MatchHistory of(List<Integer> results, int window) {
+        checkWindow(window);
+        if (results.size() > window) {
+            throw new IllegalArgumentException("At most " + window + " match results are supported, got "
+                    + results.size());
+        }
+        long bits = 0L;
+        for (Integer result : results) {
+            bits = (bits << 1) | (Integer.valueOf(1).equals(result) ? 1L : 0L);
+        }
+        return new MatchHistory(window, bits, results.size());
+    }
+
+    public static MatchHistory fromBits(long results, int length, int window) {
+        return new MatchHistory(window, results, length);
+    }
+
+    public MatchHistory push(boolean won) {
+        return new MatchHistory(window, (results << 1) | (won ? 1L : 0L), Math.min(length + 1, window));
+    }
+
+    public int getWins() {
+        return Long.bitCount(results);
+    }
+
+    public int getLosses() {
+        return length - getWins();
+    }
+
+    public double getWinRate() {
+        return getWinRateOverLast(length);
+    }
+
+    public double getWinRateOverLast(int matches) {
+        int count = Math.min(Math.max(matches, 0), length);
+        if (count == 0) {
+            return 0.0;
+        }
+        return (double) Long.bitCount(results & mask(count)) / count * 100;
+    }
+
+    public int getCurrentStreak() {
+        if (length == 0) {
+            return 0;
+        }
+        boolean won = (results & 1L) != 0;
+        int streak = Math.min(Long.numberOfTrailingZeros(won ? ~results : results), length);
+        return won ? streak : -streak;
+    }
+
+    public List<Integer> toList() {
+        List<Integer> list = new ArrayList<>(length);
+        for (int i = length - 1; i >= 0; i--) {
+            list.add((int) (results >>> i) & 1);
+        }
+        return list;
+    }
+
+    private static long mask(int bits) {
+        return bits >= Long.SIZE ? -1L : (1L << bits) - 1;
+    }
+
+    private static void checkWindow(int window) {
+        if (window < 1 || window > MAX_WINDOW) {
+            throw new IllegalArgumentException("Match history window must be between 1 and " + MAX_WINDOW);
+        }
+    }
+}
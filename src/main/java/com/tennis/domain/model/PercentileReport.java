@@ -0,0 +1,19 @@
+package com.tennis.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PercentileReport {
+    private String countryCode;
+    private PlayerMetric metric;
+    private long count;
+    private Map<Double, Double> percentiles;
+}
@@ -2,9 +2,10 @@ package com.tennis.domain.model;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class Player {
     private Long id;
     private String firstname;
@@ -14,6 +15,8 @@ public class Player {
     private Country country;
     private String picture;
     private PlayerData data;
+    @EqualsAndHashCode.Exclude
+    private long version;
 
     public String getFullName() {
         return firstname + " " + lastname;
@@ -44,4 +47,16 @@ public class Player {
         return data != null;
     }
 
+    /**
+     * Copy sharing no mutable state with this player, so a store can keep it safe from later changes made
+     * by the caller. The match history is immutable and shared.
+     */
+    public Player copy() {
+        return toBuilder()
+                .country(country != null ? new Country(country.getPicture(), country.getCode()) : null)
+                .data(data != null ? new PlayerData(data.getRank(), data.getPoints(), data.getWeight(),
+                        data.getHeight(), data.getAge(), data.getHistory()) : null)
+                .build();
+    }
+
 }
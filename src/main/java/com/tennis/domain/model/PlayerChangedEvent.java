@@ -0,0 +1,4 @@
+package com.tennis.domain.model;
+
+public record PlayerChangedEvent(Long playerId) {
+}
@@ -18,14 +18,18 @@ public class PlayerData {
     private Integer weight;
     private Integer height;
     private Integer age;
-    private List<Integer> last;
+    private MatchHistory history;
+
+    public List<Integer> getLast() {
+        return history != null ? history.toList() : null;
+    }
+
+    public void setLast(List<Integer> last) {
+        this.history = last != null ? MatchHistory.of(last) : null;
+    }
 
     public double getWinRate() {
-        if (last == null || last.isEmpty()) {
-            return 0.0;
-        }
-        long wins = last.stream().filter(result -> result == 1).count();
-        return (double) wins / last.size() * 100;
+        return history != null ? history.getWinRate() : 0.0;
     }
 
     public double getWeightInKg() {
@@ -45,4 +49,10 @@ public class PlayerData {
         return String.format(Locale.US, "%.2f", bmi);
     }
 
+    public static class PlayerDataBuilder {
+        public PlayerDataBuilder last(List<Integer> last) {
+            this.history = last != null ? MatchHistory.of(last) : null;
+            return this;
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package com.tennis.domain.model;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+public enum PlayerMetric {
+    HEIGHT("height", 100, 250, PlayerData::getHeight, 1),
+    WEIGHT("weight", 30, 200, PlayerData::getWeight, 1000),
+    AGE("age", 10, 70, PlayerData::getAge, 1);
+
+    private final String field;
+    private final int min;
+    private final int max;
+    private final Function<PlayerData, Integer> rawValue;
+    private final int rawUnitsPerBin;
+
+    PlayerMetric(String field, int min, int max, Function<PlayerData, Integer> rawValue, int rawUnitsPerBin) {
+        this.field = field;
+        this.min = min;
+        this.max = max;
+        this.rawValue = rawValue;
+        this.rawUnitsPerBin = rawUnitsPerBin;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public IntHistogram newHistogram() {
+        return new IntHistogram(min, max);
+    }
+
+    public Integer valueOf(PlayerData data) {
+        return toBinValue(rawValue.apply(data));
+    }
+
+    public Integer toBinValue(Integer raw) {
+        return raw != null ? Math.round((float) raw / rawUnitsPerBin) : null;
+    }
+
+    public static PlayerMetric fromField(String field) {
+        return Arrays.stream(values())
+                .filter(metric -> metric.field.equalsIgnoreCase(field))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown player metric: " + field));
+    }
+}
@@ -0,0 +1,62 @@
+package com.tennis.domain.model;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Search keys of a player name. Every word of the first name, last name and short name is a token, split on
+ * whitespace and hyphens, together with each name and the full name written without separators. A query is
+ * normalized to a single key without separators, so "potro", "del potro", "jo-wi" and "rafael nadal" all
+ * match as prefixes.
+ */
+public final class PlayerName {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s\\p{Pd}]+");
+
+    private PlayerName() {
+    }
+
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String withoutDiacritics = DIACRITICS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutDiacritics.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+
+    public static Set<String> tokens(String firstname, String lastname, String shortname) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String name : new String[]{firstname, lastname, shortname}) {
+            if (name == null) {
+                continue;
+            }
+            for (String word : SEPARATORS.split(name)) {
+                add(tokens, normalize(word));
+            }
+            add(tokens, normalize(name));
+        }
+        if (firstname != null && lastname != null) {
+            add(tokens, normalize(firstname) + normalize(lastname));
+        }
+        return tokens;
+    }
+
+    public static Set<String> tokens(Player player) {
+        return tokens(player.getFirstname(), player.getLastname(), player.getShortname());
+    }
+
+    public static boolean matches(Player player, String prefix) {
+        return tokens(player).stream().anyMatch(token -> token.startsWith(prefix));
+    }
+
+    private static void add(Set<String> tokens, String token) {
+        if (!token.isEmpty()) {
+            tokens.add(token);
+        }
+    }
+}
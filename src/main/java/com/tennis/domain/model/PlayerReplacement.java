@@ -0,0 +1,4 @@
+package com.tennis.domain.model;
+
+public record PlayerReplacement(Player expected, Player updated) {
+}
@@ -0,0 +1,36 @@
+package com.tennis.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerSearchCriteria {
+    private String countryCode;
+    private String sex;
+    private Integer minAge;
+    private Integer maxRank;
+
+    public boolean hasFilter() {
+        return countryCode != null || sex != null || minAge != null || maxRank != null;
+    }
+
+    public boolean matches(Player player) {
+        PlayerData data = player.getData();
+        return matches(player.hasValidCountry() ? player.getCountry().getCode() : null,
+                player.getSex(),
+                data != null ? data.getAge() : null,
+                data != null ? data.getRank() : null);
+    }
+
+    public boolean matches(String playerCountryCode, String playerSex, Integer age, Integer rank) {
+        return (countryCode == null || countryCode.equalsIgnoreCase(playerCountryCode))
+                && (sex == null || sex.equalsIgnoreCase(playerSex))
+                && (minAge == null || (age != null && age >= minAge))
+                && (maxRank == null || (rank != null && rank <= maxRank));
+    }
+}
@@ -1,7 +1,11 @@
 package com.tennis.domain.port.in;
 
+import com.tennis.domain.model.BatchItemResult;
 import com.tennis.domain.model.Player;
 
+import java.util.List;
+
 public interface CreatePlayerUseCase {
     Player createPlayer(Player player);
+    List<BatchItemResult> createPlayers(List<Player> players);
 }
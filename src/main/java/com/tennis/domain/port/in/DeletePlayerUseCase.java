@@ -1,5 +1,10 @@
 package com.tennis.domain.port.in;
 
+import com.tennis.domain.model.BatchItemResult;
+
+import java.util.List;
+
 public interface DeletePlayerUseCase {
     void deletePlayer(Long id);
+    List<BatchItemResult> deletePlayers(List<Long> ids);
 }
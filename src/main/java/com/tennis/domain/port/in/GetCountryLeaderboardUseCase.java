@@ -0,0 +1,10 @@
+package com.tennis.domain.port.in;
+
+import com.tennis.domain.model.CountryMetric;
+import com.tennis.domain.model.Statistic;
+
+import java.util.List;
+
+public interface GetCountryLeaderboardUseCase {
+    List<Statistic> getCountryLeaderboard(CountryMetric sortBy, boolean descending);
+}
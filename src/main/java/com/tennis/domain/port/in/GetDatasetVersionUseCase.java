@@ -0,0 +1,5 @@
+package com.tennis.domain.port.in;
+
+public interface GetDatasetVersionUseCase {
+    long getDatasetVersion();
+}
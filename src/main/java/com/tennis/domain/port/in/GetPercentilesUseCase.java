@@ -0,0 +1,10 @@
+package com.tennis.domain.port.in;
+
+import com.tennis.domain.model.PercentileReport;
+import com.tennis.domain.model.PlayerMetric;
+
+import java.util.List;
+
+public interface GetPercentilesUseCase {
+    PercentileReport getPercentiles(PlayerMetric metric, String countryCode, List<Double> percentiles);
+}
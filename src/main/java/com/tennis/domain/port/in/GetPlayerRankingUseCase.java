@@ -6,4 +6,5 @@ import java.util.List;
 
 public interface GetPlayerRankingUseCase {
     List<Player> getPlayersSortedByRank();
+    List<Player> getPlayersSortedByRank(int offset, int limit);
 }
@@ -4,8 +4,10 @@ import com.tennis.domain.model.Player;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface GetPlayerStatsUseCase {
     List<Player> getAllPlayers();
+    Stream<Player> streamAllPlayers();
     Optional<Player> getPlayerById(Long id);
 }
@@ -0,0 +1,10 @@
+package com.tennis.domain.port.in;
+
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerSearchCriteria;
+
+import java.util.List;
+
+public interface SearchPlayersUseCase {
+    List<Player> searchPlayers(PlayerSearchCriteria criteria, int offset, int limit);
+}
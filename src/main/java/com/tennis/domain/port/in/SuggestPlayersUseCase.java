@@ -0,0 +1,9 @@
+package com.tennis.domain.port.in;
+
+import com.tennis.domain.model.Player;
+
+import java.util.List;
+
+public interface SuggestPlayersUseCase {
+    List<Player> suggestPlayers(String query, int limit);
+}
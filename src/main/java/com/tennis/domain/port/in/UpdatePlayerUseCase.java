@@ -1,7 +1,12 @@
 package com.tennis.domain.port.in;
 
+import com.tennis.domain.model.BatchItemResult;
 import com.tennis.domain.model.Player;
 
+import java.util.List;
+
 public interface UpdatePlayerUseCase {
     Player updatePlayer(Long id, Player player);
+    Player updatePlayer(Long id, Player player, Long expectedVersion);
+    List<BatchItemResult> updatePlayers(List<Player> players);
 }
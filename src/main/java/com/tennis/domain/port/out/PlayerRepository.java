@@ -1,13 +1,106 @@
 package com.tennis.domain.port.out;
 
+import com.tennis.domain.model.CountryAggregate;
 import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerName;
+import com.tennis.domain.model.PlayerReplacement;
+import com.tennis.domain.model.PlayerSearchCriteria;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface PlayerRepository {
+    int MAX_SUGGESTIONS = 20;
+
     List<Player> findAll();
     Optional<Player> findById(Long id);
     void save(Player player);
    void deleteById(Long id);
+    long getVersion();
+
+    default void saveAll(List<Player> players) {
+        players.forEach(this::save);
+    }
+
+    default Set<Long> deleteAllById(Collection<Long> ids) {
+        Set<Long> deleted = new HashSet<>();
+        for (Long id : ids) {
+            if (findById(id).isPresent()) {
+                deleteById(id);
+                deleted.add(id);
+            }
+        }
+        return deleted;
+    }
+
+    default Optional<Player> replace(Player expected, Player updated) {
+        Optional<Player> current = findById(expected.getId());
+        if (current.isEmpty() || current.get().getVersion() != expected.getVersion()) {
+            return Optional.empty();
+        }
+        save(updated);
+        return findById(updated.getId());
+    }
+
+    default Map<Long, Player> replaceAll(List<PlayerReplacement> replacements) {
+        Map<Long, Player> stored = new LinkedHashMap<>();
+        for (PlayerReplacement replacement : replacements) {
+            replace(replacement.expected(), replacement.updated())
+                    .ifPresent(player -> stored.put(player.getId(), player));
+        }
+        return stored;
+    }
+
+    default Stream<Player> streamAll() {
+        return findAll().stream();
+    }
+
+    default Collection<CountryAggregate> findCountryAggregates() {
+        return CountryAggregate.groupByCountry(findAll());
+    }
+
+    default CountryAggregate findGlobalAggregate() {
+        CountryAggregate global = new CountryAggregate(null);
+        streamAll().forEach(global::add);
+        return global;
+    }
+
+    default List<Player> findAllSortedByRank(int offset, int limit) {
+        return findAll().stream()
+                .filter(Player::hasData)
+                .sorted(Comparator.comparing((Player player) -> player.getData().getRank(),
+                                Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Player::getId))
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    default List<Player> search(PlayerSearchCriteria criteria, int offset, int limit) {
+        return streamAll()
+                .filter(criteria::matches)
+                .sorted(Comparator.comparing((Player player) -> player.hasData() ? player.getData().getRank() : null,
+                                Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Player::getId))
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    default List<Player> suggest(String prefix, int limit) {
+        return streamAll()
+                .filter(player -> PlayerName.matches(player, prefix))
+                .sorted(Comparator.comparing((Player player) -> player.hasData() ? player.getData().getRank() : null,
+                                Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Player::getId))
+                .limit(limit)
+                .toList();
+    }
 }
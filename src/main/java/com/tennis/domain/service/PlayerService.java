@@ -1,27 +1,38 @@
 package com.tennis.domain.service;
 
+import com.tennis.domain.model.BatchItemResult;
+import com.tennis.domain.model.CountryAggregate;
+import com.tennis.domain.model.CountryMetric;
+import com.tennis.domain.model.PercentileReport;
 import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerMetric;
+import com.tennis.domain.model.PlayerName;
+import com.tennis.domain.model.PlayerReplacement;
+import com.tennis.domain.model.PlayerSearchCriteria;
 import com.tennis.domain.model.Statistic;
 import com.tennis.domain.port.in.*;
 import com.tennis.domain.port.out.PlayerRepository;
 import com.tennis.domain.service.exception.NoStatisticAvailableException;
+import com.tennis.domain.service.exception.PlayerVersionConflictException;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Comparator;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 public class PlayerService implements
         GetPlayerStatsUseCase,
         GetPlayerRankingUseCase,
         GetCountryWithBestRatioUseCase,
+        GetCountryLeaderboardUseCase,
+        GetPercentilesUseCase,
+        SearchPlayersUseCase,
+        SuggestPlayersUseCase,
         CreatePlayerUseCase,
         UpdatePlayerUseCase,
-        DeletePlayerUseCase {
+        DeletePlayerUseCase,
+        GetDatasetVersionUseCase {
 
     private final PlayerRepository playerRepository;
 
@@ -30,22 +41,38 @@ public class PlayerService implements
         return playerRepository.findAll();
     }
 
+    @Override
+    public Stream<Player> streamAllPlayers() {
+        return playerRepository.streamAll();
+    }
+
     @Override
     public Optional<Player> getPlayerById(Long id) {
         return playerRepository.findById(id);
     }
 
+    @Override
+    public long getDatasetVersion() {
+        return playerRepository.getVersion();
+    }
+
     @Override
     public List<Player> getPlayersSortedByRank() {
-        return playerRepository.findAll().stream()
-                .filter(player -> player.getData() != null)
-                .sorted(Comparator.comparing(player -> player.getData().getRank()))
-                .collect(Collectors.toList());
+        return getPlayersSortedByRank(0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Player> getPlayersSortedByRank(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit must be positive");
+        }
+
+        return playerRepository.findAllSortedByRank(offset, limit);
     }
 
     @Override
     public Player createPlayer(Player player) {
-        if (player.getFirstname() == null || player.getLastname() == null) {
+        if (!hasRequiredNames(player)) {
             throw new IllegalArgumentException("First name and last name are required");
         }
 
@@ -53,94 +80,209 @@ public class PlayerService implements
         return player;
     }
 
+    @Override
+    public List<BatchItemResult> createPlayers(List<Player> players) {
+        List<Player> valid = players.stream()
+                .filter(this::hasRequiredNames)
+                .toList();
+        playerRepository.saveAll(valid);
+
+        return players.stream()
+                .map(player -> hasRequiredNames(player)
+                        ? BatchItemResult.builder()
+                                .status(BatchItemResult.Status.CREATED)
+                                .id(player.getId())
+                                .player(player)
+                                .build()
+                        : BatchItemResult.builder()
+                                .status(BatchItemResult.Status.INVALID)
+                                .error("First name and last name are required")
+                                .build())
+                .toList();
+    }
+
     @Override
     public Player updatePlayer(Long id, Player updatedPlayer) {
-        return playerRepository.findById(id)
-                .map(existing -> {
-                    updateFieldIfNotNull(updatedPlayer.getFirstname(), existing::setFirstname);
-                    updateFieldIfNotNull(updatedPlayer.getLastname(), existing::setLastname);
-                    updateFieldIfNotNull(updatedPlayer.getShortname(), existing::setShortname);
-                    updateFieldIfNotNull(updatedPlayer.getSex(), existing::setSex);
-                    updateFieldIfNotNull(updatedPlayer.getCountry(), existing::setCountry);
-                    updateFieldIfNotNull(updatedPlayer.getPicture(), existing::setPicture);
-                    updateFieldIfNotNull(updatedPlayer.getData(), existing::setData);
-
-                    playerRepository.save(existing);
-                    return existing;
-                })
-                .orElse(null);
-    }
-
-    private <T> void updateFieldIfNotNull(T value, Consumer<T> setter) {
-        if (value != null) {
-            setter.accept(value);
-        }
+        return updatePlayer(id, updatedPlayer, null);
     }
 
     @Override
-    public void deletePlayer(Long id) {
-        playerRepository.deleteById(id);
+    public Player updatePlayer(Long id, Player updatedPlayer, Long expectedVersion) {
+        return replaceWithRetry(id, expectedVersion, existing -> applyUpdate(existing, updatedPlayer));
     }
 
     @Override
-    public Statistic getCountryWithBestWinRatio() {
-        return playerRepository.findAll().stream()
-                .filter(Player::hasValidCountry)
-                .collect(Collectors.groupingBy(player -> player.getCountry().getCode()))
-                .entrySet().stream()
-                .map(entry -> calculateCountryStatistic(entry.getKey(), entry.getValue()))
-                .max(Comparator.comparing(Statistic::getWinRatio))
-                .orElseThrow(() -> new NoStatisticAvailableException("No statistic available"));
+    public List<BatchItemResult> updatePlayers(List<Player> players) {
+        Map<Long, List<Player>> changes = new LinkedHashMap<>();
+        for (Player player : players) {
+            if (player.getId() != null) {
+                changes.computeIfAbsent(player.getId(), id -> new ArrayList<>()).add(player);
+            }
+        }
+
+        Map<Long, Player> updated = new HashMap<>();
+        while (!changes.isEmpty()) {
+            List<PlayerReplacement> replacements = new ArrayList<>(changes.size());
+            changes.forEach((id, items) -> playerRepository.findById(id).ifPresent(existing -> {
+                Player result = existing;
+                for (Player item : items) {
+                    result = applyUpdate(result, item);
+                }
+                replacements.add(new PlayerReplacement(existing, result));
+            }));
+            if (replacements.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Player> stored = playerRepository.replaceAll(replacements);
+            updated.putAll(stored);
+            Map<Long, List<Player>> conflicts = new LinkedHashMap<>();
+            for (PlayerReplacement replacement : replacements) {
+                Long id = replacement.expected().getId();
+                if (!stored.containsKey(id)) {
+                    conflicts.put(id, changes.get(id));
+                }
+            }
+            changes = conflicts;
+        }
+
+        return players.stream()
+                .map(player -> updated.containsKey(player.getId())
+                        ? BatchItemResult.builder()
+                                .status(BatchItemResult.Status.UPDATED)
+                                .id(player.getId())
+                                .player(updated.get(player.getId()))
+                                .build()
+                        : BatchItemResult.builder()
+                                .status(BatchItemResult.Status.NOT_FOUND)
+                                .id(player.getId())
+                                .error("Player not found")
+                                .build())
+                .toList();
     }
 
-    private Statistic calculateCountryStatistic(String countryCode, List<Player> players) {
-        List<Player> playersWithData = filterPlayersWithData(players);
+    private Player replaceWithRetry(Long id, Long expectedVersion, UnaryOperator<Player> change) {
+        while (true) {
+            Optional<Player> current = playerRepository.findById(id);
+            if (current.isEmpty()) {
+                return null;
+            }
+
+            Player existing = current.get();
+            if (expectedVersion != null && existing.getVersion() != expectedVersion) {
+                throw new PlayerVersionConflictException(
+                        "Player " + id + " is at version " + existing.getVersion() + ", expected " + expectedVersion);
+            }
 
-        return Statistic.builder()
-                .countryCode(countryCode)
-                .winRatio(calculateAverageWinRatio(playersWithData))
-                .averageBMI(calculateAverageBMI(playersWithData))
-                .medianHeight(calculateMedianHeight(playersWithData))
+            Optional<Player> stored = playerRepository.replace(existing, change.apply(existing));
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+        }
+    }
+
+    private Player applyUpdate(Player existing, Player updatedPlayer) {
+        return existing.toBuilder()
+                .firstname(valueOrDefault(updatedPlayer.getFirstname(), existing.getFirstname()))
+                .lastname(valueOrDefault(updatedPlayer.getLastname(), existing.getLastname()))
+                .shortname(valueOrDefault(updatedPlayer.getShortname(), existing.getShortname()))
+                .sex(valueOrDefault(updatedPlayer.getSex(), existing.getSex()))
+                .country(valueOrDefault(updatedPlayer.getCountry(), existing.getCountry()))
+                .picture(valueOrDefault(updatedPlayer.getPicture(), existing.getPicture()))
+                .data(valueOrDefault(updatedPlayer.getData(), existing.getData()))
                 .build();
     }
 
-    private List<Player> filterPlayersWithData(List<Player> players) {
-        return players.stream()
-                .filter(Player::hasData)
-                .collect(Collectors.toList());
+    private static <T> T valueOrDefault(T value, T defaultValue) {
+        return value != null ? value : defaultValue;
     }
 
-    private double calculateAverageWinRatio(List<Player> players) {
-        return players.stream()
-                .mapToDouble(player -> player.getData().getWinRate())
-                .average()
-                .orElse(0.0);
+    private boolean hasRequiredNames(Player player) {
+        return player.getFirstname() != null && player.getLastname() != null;
     }
 
-    private double calculateAverageBMI(List<Player> players) {
-        return players.stream()
-                .filter(Player::hasValidBMIData)
-                .mapToDouble(Player::calculateBMI)
-                .average()
-                .orElse(0.0);
+    @Override
+    public void deletePlayer(Long id) {
+        playerRepository.deleteById(id);
     }
 
-    private double calculateMedianHeight(List<Player> players) {
-        List<Integer> heights = players.stream()
-                .map(player -> player.getData().getHeight())
-                .filter(Objects::nonNull)
-                .sorted()
+    @Override
+    public List<BatchItemResult> deletePlayers(List<Long> ids) {
+        Set<Long> deleted = playerRepository.deleteAllById(ids);
+
+        return ids.stream()
+                .map(id -> deleted.contains(id)
+                        ? BatchItemResult.builder()
+                                .status(BatchItemResult.Status.DELETED)
+                                .id(id)
+                                .build()
+                        : BatchItemResult.builder()
+                                .status(BatchItemResult.Status.NOT_FOUND)
+                                .id(id)
+                                .error("Player not found")
+                                .build())
                 .toList();
+    }
+
+    @Override
+    public Statistic getCountryWithBestWinRatio() {
+        return playerRepository.findCountryAggregates().stream()
+                .map(CountryAggregate::toStatistic)
+                .max(Comparator.comparing(Statistic::getWinRatio))
+                .orElseThrow(() -> new NoStatisticAvailableException("No statistic available"));
+    }
 
-        if (heights.isEmpty()) {
-            return 0.0;
+    @Override
+    public List<Statistic> getCountryLeaderboard(CountryMetric sortBy, boolean descending) {
+        return playerRepository.findCountryAggregates().stream()
+                .map(CountryAggregate::toStatistic)
+                .sorted(sortBy.comparator(descending))
+                .toList();
+    }
+
+    @Override
+    public PercentileReport getPercentiles(PlayerMetric metric, String countryCode, List<Double> percentiles) {
+        if (percentiles.isEmpty()) {
+            throw new IllegalArgumentException("At least one percentile is required");
+        }
+
+        CountryAggregate aggregate = countryCode == null
+                ? playerRepository.findGlobalAggregate()
+                : playerRepository.findCountryAggregates().stream()
+                        .filter(candidate -> candidate.getCountryCode().equalsIgnoreCase(countryCode))
+                        .findFirst()
+                        .orElseThrow(() -> new NoStatisticAvailableException("No statistic available for " + countryCode));
+        return aggregate.percentiles(metric, percentiles);
+    }
+
+    @Override
+    public List<Player> searchPlayers(PlayerSearchCriteria criteria, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit must be positive");
+        }
+        if (!criteria.hasFilter()) {
+            throw new IllegalArgumentException("At least one search criterion is required");
         }
 
-        int size = heights.size();
-        int midIndex = size / 2;
+        PlayerSearchCriteria normalized = PlayerSearchCriteria.builder()
+                .countryCode(criteria.getCountryCode() != null ? criteria.getCountryCode().toUpperCase(Locale.ROOT) : null)
+                .sex(criteria.getSex() != null ? criteria.getSex().toUpperCase(Locale.ROOT) : null)
+                .minAge(criteria.getMinAge())
+                .maxRank(criteria.getMaxRank())
+                .build();
+        return playerRepository.search(normalized, offset, limit);
+    }
+
+    @Override
+    public List<Player> suggestPlayers(String query, int limit) {
+        if (limit < 1 || limit > PlayerRepository.MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + PlayerRepository.MAX_SUGGESTIONS);
+        }
 
-        return size % 2 == 0
-                ? (heights.get(midIndex - 1) + heights.get(midIndex)) / 2.0
-                : heights.get(midIndex);
+        String prefix = PlayerName.normalize(query);
+        if (prefix.isEmpty()) {
+            throw new IllegalArgumentException("Query must contain at least one letter or digit");
+        }
+        return playerRepository.suggest(prefix, limit);
     }
 }
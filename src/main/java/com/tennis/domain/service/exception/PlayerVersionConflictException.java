@@ -0,0 +1,7 @@
+package com.tennis.domain.service.exception;
+
+public class PlayerVersionConflictException extends RuntimeException {
+    public PlayerVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,32 @@
+package com.tennis.infrastructure.adapter.in.reactive;
+
+import com.tennis.infrastructure.logging.AccessLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class AccessLogWebFilter implements WebFilter {
+
+    private final AccessLog accessLog;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    accessLog.http(exchange.getRequest().getMethod().name(),
+                            exchange.getRequest().getPath().value(),
+                            status != null ? status.value() : 200,
+                            System.nanoTime() - start);
+                });
+    }
+}
@@ -0,0 +1,215 @@
+package com.tennis.infrastructure.adapter.in.reactive;
+
+import com.tennis.domain.model.CountryMetric;
+import com.tennis.domain.model.PlayerMetric;
+import com.tennis.domain.model.PlayerSearchCriteria;
+import com.tennis.domain.port.in.*;
+import com.tennis.domain.service.exception.NoStatisticAvailableException;
+import com.tennis.domain.service.exception.PlayerVersionConflictException;
+import com.tennis.infrastructure.adapter.in.rest.PlayerBatchProcessor;
+import com.tennis.infrastructure.adapter.in.rest.PlayerVersionTag;
+import com.tennis.infrastructure.adapter.in.rest.dto.BatchItemResponse;
+import com.tennis.infrastructure.adapter.in.rest.dto.CountryStatsResponse;
+import com.tennis.infrastructure.adapter.in.rest.dto.PercentileResponse;
+import com.tennis.infrastructure.adapter.in.rest.dto.PlayerCreateRequest;
+import com.tennis.infrastructure.adapter.in.rest.dto.PlayerStatsResponse;
+import com.tennis.infrastructure.adapter.in.rest.dto.PlayerUpdateRequest;
+import com.tennis.infrastructure.adapter.in.rest.dto.SortOrder;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/players")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerReactiveController {
+
+    private static final long STARTED_AT = System.currentTimeMillis();
+
+    private final GetPlayerStatsUseCase getPlayerStatsUseCase;
+    private final GetPlayerRankingUseCase getPlayerRankingUseCase;
+    private final GetCountryWithBestRatioUseCase getCountryWithBestRatioUseCase;
+    private final GetCountryLeaderboardUseCase getCountryLeaderboardUseCase;
+    private final GetPercentilesUseCase getPercentilesUseCase;
+    private final SearchPlayersUseCase searchPlayersUseCase;
+    private final SuggestPlayersUseCase suggestPlayersUseCase;
+    private final CreatePlayerUseCase createPlayerUseCase;
+    private final UpdatePlayerUseCase updatePlayerUseCase;
+    private final DeletePlayerUseCase deletePlayerUseCase;
+    private final GetDatasetVersionUseCase getDatasetVersionUseCase;
+    private final PlayerBatchProcessor batchProcessor;
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<PlayerStatsResponse> getAllPlayers(ServerWebExchange exchange) {
+        if (exchange.checkNotModified(currentETag())) {
+            return Flux.empty();
+        }
+        return Flux.fromStream(getPlayerStatsUseCase::streamAllPlayers)
+                .map(PlayerStatsResponse::fromDomain)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<PlayerStatsResponse>> getPlayerById(@PathVariable Long id) {
+        return Mono.fromCallable(() -> getPlayerStatsUseCase.getPlayerById(id))
+                .flatMap(Mono::justOrEmpty)
+                .map(player -> ResponseEntity.ok(PlayerStatsResponse.fromDomain(player)))
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping(value = "/ranking", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<PlayerStatsResponse> getPlayerRanking(
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int limit,
+            ServerWebExchange exchange) {
+        if (exchange.checkNotModified(currentETag())) {
+            return Flux.empty();
+        }
+        return Flux.defer(() -> Flux.fromIterable(getPlayerRankingUseCase.getPlayersSortedByRank(offset, limit)))
+                .map(PlayerStatsResponse::fromDomain)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<PlayerStatsResponse> searchPlayers(
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) String sex,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxRank,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int limit,
+            ServerWebExchange exchange) {
+        if (exchange.checkNotModified(currentETag())) {
+            return Flux.empty();
+        }
+        PlayerSearchCriteria criteria = PlayerSearchCriteria.builder()
+                .countryCode(country)
+                .sex(sex)
+                .minAge(minAge)
+                .maxRank(maxRank)
+                .build();
+        return Flux.defer(() -> Flux.fromIterable(searchPlayersUseCase.searchPlayers(criteria, offset, limit)))
+                .map(PlayerStatsResponse::fromDomain)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("/suggest")
+    public Flux<PlayerStatsResponse> suggestPlayers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return Flux.defer(() -> Flux.fromIterable(suggestPlayersUseCase.suggestPlayers(q, limit)))
+                .map(PlayerStatsResponse::fromDomain)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("/country/best-ratio")
+    public Mono<CountryStatsResponse> getCountryWithBestRatio(ServerWebExchange exchange) {
+        if (exchange.checkNotModified(currentETag())) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(getCountryWithBestRatioUseCase::getCountryWithBestWinRatio)
+                .map(CountryStatsResponse::fromDomain)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("/country/leaderboard")
+    public Flux<CountryStatsResponse> getCountryLeaderboard(
+            @RequestParam(defaultValue = "winRatio") String sort,
+            @RequestParam(defaultValue = "desc") String order,
+            ServerWebExchange exchange) {
+        CountryMetric metric = CountryMetric.fromField(sort);
+        boolean descending = SortOrder.fromParameter(order).isDescending();
+        if (exchange.checkNotModified(currentETag())) {
+            return Flux.empty();
+        }
+        return Flux.defer(() -> Flux.fromIterable(getCountryLeaderboardUseCase.getCountryLeaderboard(metric, descending)))
+                .map(CountryStatsResponse::fromDomain)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("/percentiles")
+    public Mono<ResponseEntity<PercentileResponse>> getPercentiles(
+            @RequestParam(defaultValue = "height") String metric,
+            @RequestParam(required = false) String country,
+            @RequestParam(name = "p", defaultValue = "50,90,99") List<Double> percentiles) {
+        PlayerMetric playerMetric = PlayerMetric.fromField(metric);
+        return Mono.fromCallable(() -> getPercentilesUseCase.getPercentiles(playerMetric, country, percentiles))
+                .map(report -> ResponseEntity.ok(PercentileResponse.fromDomain(report)))
+                .onErrorResume(NoStatisticAvailableException.class, e -> Mono.just(ResponseEntity.notFound().build()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<PlayerStatsResponse>> createPlayer(@Valid @RequestBody PlayerCreateRequest request) {
+        return Mono.fromCallable(() -> createPlayerUseCase.createPlayer(request.toDomain()))
+                .map(player -> ResponseEntity.status(HttpStatus.CREATED).body(PlayerStatsResponse.fromDomain(player)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<PlayerStatsResponse>> updatePlayer(
+            @PathVariable Long id,
+            @Valid @RequestBody PlayerUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return Mono.fromCallable(() -> ifMatch != null
+                        ? updatePlayerUseCase.updatePlayer(id, request.toDomain(), PlayerVersionTag.parse(ifMatch))
+                        : updatePlayerUseCase.updatePlayer(id, request.toDomain()))
+                .map(player -> ResponseEntity.ok()
+                        .eTag(PlayerVersionTag.of(player.getVersion()))
+                        .body(PlayerStatsResponse.fromDomain(player)))
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(PlayerVersionConflictException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deletePlayer(@PathVariable Long id) {
+        return Mono.fromRunnable(() -> deletePlayerUseCase.deletePlayer(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @PostMapping("/batch")
+    public Mono<List<BatchItemResponse>> createPlayers(@RequestBody List<PlayerCreateRequest> requests) {
+        return Mono.fromCallable(() -> batchProcessor.createPlayers(requests))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @PutMapping("/batch")
+    public Mono<List<BatchItemResponse>> updatePlayers(@RequestBody List<PlayerUpdateRequest> requests) {
+        return Mono.fromCallable(() -> batchProcessor.updatePlayers(requests))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @DeleteMapping("/batch")
+    public Mono<List<BatchItemResponse>> deletePlayers(@RequestBody List<Long> ids) {
+        return Mono.fromCallable(() -> batchProcessor.deletePlayers(ids))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleInvalidRequest(IllegalArgumentException e) {
+        log.error("Invalid request: {}", e.getMessage());
+        return ResponseEntity.badRequest().build();
+    }
+
+    private String currentETag() {
+        return "\"" + Long.toHexString(STARTED_AT) + "-" + getDatasetVersionUseCase.getDatasetVersion() + "\"";
+    }
+}
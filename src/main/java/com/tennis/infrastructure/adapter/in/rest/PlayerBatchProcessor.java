@@ -0,0 +1,107 @@
+package com.tennis.infrastructure.adapter.in.rest;
+
+import com.tennis.domain.model.BatchItemResult;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.port.in.CreatePlayerUseCase;
+import com.tennis.domain.port.in.DeletePlayerUseCase;
+import com.tennis.domain.port.in.UpdatePlayerUseCase;
+import com.tennis.infrastructure.adapter.in.rest.dto.BatchItemResponse;
+import com.tennis.infrastructure.adapter.in.rest.dto.PlayerCreateRequest;
+import com.tennis.infrastructure.adapter.in.rest.dto.PlayerUpdateRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class PlayerBatchProcessor {
+
+    private final CreatePlayerUseCase createPlayerUseCase;
+    private final UpdatePlayerUseCase updatePlayerUseCase;
+    private final DeletePlayerUseCase deletePlayerUseCase;
+    private final Validator validator;
+
+    public List<BatchItemResponse> createPlayers(List<PlayerCreateRequest> requests) {
+        return apply(requests, PlayerCreateRequest::toDomain, createPlayerUseCase::createPlayers);
+    }
+
+    public List<BatchItemResponse> updatePlayers(List<PlayerUpdateRequest> requests) {
+        return apply(requests, request -> {
+            if (request.getId() == null) {
+                throw new IllegalArgumentException("Id is required");
+            }
+            Player player = request.toDomain();
+            player.setId(request.getId());
+            return player;
+        }, updatePlayerUseCase::updatePlayers);
+    }
+
+    public List<BatchItemResponse> deletePlayers(List<Long> ids) {
+        BatchItemResponse[] response = new BatchItemResponse[ids.size()];
+        List<Long> present = new ArrayList<>(ids.size());
+        List<Integer> indexes = new ArrayList<>(ids.size());
+
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i) == null) {
+                response[i] = BatchItemResponse.invalid(i, "Id is required");
+                continue;
+            }
+            present.add(ids.get(i));
+            indexes.add(i);
+        }
+
+        List<BatchItemResult> results = deletePlayerUseCase.deletePlayers(present);
+        for (int i = 0; i < results.size(); i++) {
+            response[indexes.get(i)] = BatchItemResponse.fromDomain(indexes.get(i), results.get(i));
+        }
+        return Arrays.asList(response);
+    }
+
+    private <T> List<BatchItemResponse> apply(List<T> requests, Function<T, Player> toDomain,
+                                              Function<List<Player>, List<BatchItemResult>> useCase) {
+        BatchItemResponse[] response = new BatchItemResponse[requests.size()];
+        List<Player> players = new ArrayList<>(requests.size());
+        List<Integer> indexes = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            T request = requests.get(i);
+            if (request == null) {
+                response[i] = BatchItemResponse.invalid(i, "Item is required");
+                continue;
+            }
+
+            Set<ConstraintViolation<T>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                response[i] = BatchItemResponse.invalid(i, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                continue;
+            }
+
+            Player player;
+            try {
+                player = toDomain.apply(request);
+            } catch (IllegalArgumentException e) {
+                response[i] = BatchItemResponse.invalid(i, e.getMessage());
+                continue;
+            }
+            players.add(player);
+            indexes.add(i);
+        }
+
+        List<BatchItemResult> results = useCase.apply(players);
+        for (int i = 0; i < results.size(); i++) {
+            response[indexes.get(i)] = BatchItemResponse.fromDomain(indexes.get(i), results.get(i));
+        }
+        return Arrays.asList(response);
+    }
+}
@@ -0,0 +1,170 @@
+package com.tennis.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerChangedEvent;
+import com.tennis.infrastructure.adapter.in.rest.dto.PlayerStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+@Component
+@Profile("!reactive")
+public class PlayerResponseCache {
+
+    private static final int STRIPES = 64;
+
+    private final ObjectMapper objectMapper;
+    private final Map<Long, byte[]> players = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> assembledBodies = new ConcurrentHashMap<>();
+    private final Queue<String> assembledOrder = new ArrayDeque<>();
+    private final long maxAssembledBytes;
+    private long assembledBytes;
+    private final AtomicLongArray playerGenerations = new AtomicLongArray(STRIPES);
+    private final AtomicLong listGeneration = new AtomicLong();
+    private final AtomicLongArray admitted;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public PlayerResponseCache(ObjectMapper objectMapper,
+                               @Value("${tennis.response-cache.max-players:10000}") int maxPlayers,
+                               @Value("${tennis.response-cache.max-list-size:16MB}") DataSize maxListSize) {
+        if (maxPlayers <= 0) {
+            throw new IllegalArgumentException("The response cache must hold at least one player");
+        }
+        if (maxListSize.isNegative()) {
+            throw new IllegalArgumentException("The response cache list size cannot be negative");
+        }
+        this.objectMapper = objectMapper;
+        this.admitted = new AtomicLongArray(maxPlayers);
+        this.maxAssembledBytes = maxListSize.toBytes();
+    }
+
+    public Optional<byte[]> player(Long id, Supplier<Optional<Player>> loader) {
+        byte[] cached = players.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long stamp = playerGenerations.get(stripe(id));
+        return loader.get().map(player -> {
+            byte[] bytes = serialize(player);
+            if (playerGenerations.get(stripe(id)) == stamp) {
+                admit(player.getId(), bytes);
+            }
+            return bytes;
+        });
+    }
+
+    public byte[] playerList(String key, Supplier<Collection<Player>> loader) {
+        byte[] cached = assembledBodies.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = listGeneration.get();
+        Collection<Player> loaded = loader.get();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(loaded.size() * 256 + 2);
+        body.write('[');
+        boolean first = true;
+        for (Player player : loaded) {
+            if (!first) {
+                body.write(',');
+            }
+            byte[] cachedPlayer = players.get(player.getId());
+            if (cachedPlayer == null) {
+                cachedPlayer = serialize(player);
+                if (listGeneration.get() == stamp) {
+                    admit(player.getId(), cachedPlayer);
+                }
+            }
+            body.writeBytes(cachedPlayer);
+            first = false;
+        }
+        body.write(']');
+
+        byte[] bytes = body.toByteArray();
+        assemble(key, bytes, stamp);
+        return bytes;
+    }
+
+    @EventListener
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        playerGenerations.incrementAndGet(stripe(event.playerId()));
+        listGeneration.incrementAndGet();
+        players.remove(event.playerId());
+        clearAssembled();
+    }
+
+    int cachedPlayers() {
+        return players.size();
+    }
+
+    synchronized long assembledBytes() {
+        return assembledBytes;
+    }
+
+    void clear() {
+        for (int i = 0; i < STRIPES; i++) {
+            playerGenerations.incrementAndGet(i);
+        }
+        listGeneration.incrementAndGet();
+        players.clear();
+        clearAssembled();
+    }
+
+    private synchronized void assemble(String key, byte[] bytes, long stamp) {
+        if (bytes.length > maxAssembledBytes || listGeneration.get() != stamp || assembledBodies.containsKey(key)) {
+            return;
+        }
+        while (assembledBytes + bytes.length > maxAssembledBytes) {
+            assembledBytes -= assembledBodies.remove(assembledOrder.remove()).length;
+        }
+        assembledBodies.put(key, bytes);
+        assembledOrder.add(key);
+        assembledBytes += bytes.length;
+    }
+
+    private synchronized void clearAssembled() {
+        assembledBodies.clear();
+        assembledOrder.clear();
+        assembledBytes = 0;
+    }
+
+    private void admit(Long id, byte[] bytes) {
+        if (players.putIfAbsent(id, bytes) != null) {
+            return;
+        }
+        int slot = (int) (cursor.getAndIncrement() % admitted.length());
+        long evicted = admitted.getAndSet(slot, id);
+        if (evicted != 0 && evicted != id) {
+            players.remove(evicted);
+        }
+    }
+
+    private static int stripe(Long id) {
+        return Long.hashCode(id) & (STRIPES - 1);
+    }
+
+    private byte[] serialize(Player player) {
+        try {
+            return objectMapper.writeValueAsBytes(PlayerStatsResponse.fromDomain(player));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,71 +1,186 @@
 package com.tennis.infrastructure.adapter.in.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tennis.domain.model.CountryMetric;
+import com.tennis.domain.model.PercentileReport;
 import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerMetric;
+import com.tennis.domain.model.PlayerSearchCriteria;
 import com.tennis.domain.model.Statistic;
 import com.tennis.domain.port.in.*;
+import com.tennis.domain.service.exception.NoStatisticAvailableException;
+import com.tennis.domain.service.exception.PlayerVersionConflictException;
+import com.tennis.infrastructure.adapter.in.rest.dto.BatchItemResponse;
 import com.tennis.infrastructure.adapter.in.rest.dto.CountryStatsResponse;
+import com.tennis.infrastructure.adapter.in.rest.dto.PercentileResponse;
 import com.tennis.infrastructure.adapter.in.rest.dto.PlayerCreateRequest;
 import com.tennis.infrastructure.adapter.in.rest.dto.PlayerStatsResponse;
 import com.tennis.infrastructure.adapter.in.rest.dto.PlayerUpdateRequest;
+import com.tennis.infrastructure.adapter.in.rest.dto.SortOrder;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/players")
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Slf4j
 public class PlayerStatsController {
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final long STARTED_AT = System.currentTimeMillis();
+
     private final GetPlayerStatsUseCase getPlayerStatsUseCase;
     private final GetPlayerRankingUseCase getPlayerRankingUseCase;
     private final GetCountryWithBestRatioUseCase getCountryWithBestRatioUseCase;
+    private final GetCountryLeaderboardUseCase getCountryLeaderboardUseCase;
+    private final GetPercentilesUseCase getPercentilesUseCase;
+    private final SearchPlayersUseCase searchPlayersUseCase;
+    private final SuggestPlayersUseCase suggestPlayersUseCase;
     private final CreatePlayerUseCase createPlayerUseCase;
     private final UpdatePlayerUseCase updatePlayerUseCase;
     private final DeletePlayerUseCase deletePlayerUseCase;
+    private final GetDatasetVersionUseCase getDatasetVersionUseCase;
+    private final ObjectMapper objectMapper;
+    private final PlayerResponseCache responseCache;
+    private final PlayerBatchProcessor batchProcessor;
+
     @GetMapping
-    public ResponseEntity<List<PlayerStatsResponse>> getAllPlayers() {
-        log.info("GET /api/players - Get all players");
+    public ResponseEntity<byte[]> getAllPlayers(WebRequest request) {
+        if (request.checkNotModified(currentETag())) {
+            return null;
+        }
 
-        List<PlayerStatsResponse> response = getPlayerStatsUseCase.getAllPlayers()
-                .stream()
-                .map(PlayerStatsResponse::fromDomain)
-                .collect(Collectors.toList());
+        byte[] response = responseCache.playerList("players", getPlayerStatsUseCase::getAllPlayers);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<PlayerStatsResponse> getPlayerById(@PathVariable Long id) {
-        log.info("GET /api/players/{} - Get player by id", id);
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllPlayersAsNdjson(WebRequest request) {
+        if (request.checkNotModified(currentETag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(outputStream -> writePlayers(outputStream, false));
+    }
+
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllPlayersAsJsonArray(WebRequest request) {
+        if (request.checkNotModified(currentETag())) {
+            return null;
+        }
 
-        return getPlayerStatsUseCase.getPlayerById(id)
-                .map(PlayerStatsResponse::fromDomain)
-                .map(ResponseEntity::ok)
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> writePlayers(outputStream, true));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getPlayerById(@PathVariable Long id) {
+        return responseCache.player(id, () -> getPlayerStatsUseCase.getPlayerById(id))
+                .map(response -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(response))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/ranking")
-    public ResponseEntity<List<PlayerStatsResponse>> getPlayerRanking() {
-        log.info("GET /api/players/ranking - Get player by ranking");
+    public ResponseEntity<byte[]> getPlayerRanking(
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int limit,
+            WebRequest request) {
+        if (request.checkNotModified(currentETag())) {
+            return null;
+        }
 
-        List<PlayerStatsResponse> response = getPlayerRankingUseCase.getPlayersSortedByRank()
-                .stream()
-                .map(PlayerStatsResponse::fromDomain)
-                .collect(Collectors.toList());
+        try {
+            byte[] response = responseCache.playerList("ranking:" + offset + ":" + limit,
+                    () -> getPlayerRankingUseCase.getPlayersSortedByRank(offset, limit));
 
-        return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(response);
+        } catch (IllegalArgumentException e) {
+            log.error("Error when get player ranking: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<PlayerStatsResponse>> searchPlayers(
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) String sex,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxRank,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int limit,
+            WebRequest request) {
+        if (request.checkNotModified(currentETag())) {
+            return null;
+        }
+
+        try {
+            PlayerSearchCriteria criteria = PlayerSearchCriteria.builder()
+                    .countryCode(country)
+                    .sex(sex)
+                    .minAge(minAge)
+                    .maxRank(maxRank)
+                    .build();
+            List<PlayerStatsResponse> response = searchPlayersUseCase.searchPlayers(criteria, offset, limit).stream()
+                    .map(PlayerStatsResponse::fromDomain)
+                    .toList();
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("Error when search players: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<PlayerStatsResponse>> suggestPlayers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<PlayerStatsResponse> response = suggestPlayersUseCase.suggestPlayers(q, limit).stream()
+                    .map(PlayerStatsResponse::fromDomain)
+                    .toList();
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("Error when suggest players: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/country/best-ratio")
-    public ResponseEntity<CountryStatsResponse> getCountryWithBestRatio() {
-        log.info("GET /api/players/country/best-ratio - Get country with best ratio");
+    public ResponseEntity<CountryStatsResponse> getCountryWithBestRatio(WebRequest request) {
+        if (request.checkNotModified(currentETag())) {
+            return null;
+        }
 
         Statistic countryStats = getCountryWithBestRatioUseCase.getCountryWithBestWinRatio();
         CountryStatsResponse response = CountryStatsResponse.fromDomain(countryStats);
@@ -73,11 +188,53 @@ public class PlayerStatsController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/country/leaderboard")
+    public ResponseEntity<List<CountryStatsResponse>> getCountryLeaderboard(
+            @RequestParam(defaultValue = "winRatio") String sort,
+            @RequestParam(defaultValue = "desc") String order,
+            WebRequest request) {
+        if (request.checkNotModified(currentETag())) {
+            return null;
+        }
+
+        try {
+            List<CountryStatsResponse> response = getCountryLeaderboardUseCase
+                    .getCountryLeaderboard(CountryMetric.fromField(sort), SortOrder.fromParameter(order).isDescending()).stream()
+                    .map(CountryStatsResponse::fromDomain)
+                    .toList();
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("Error when get country leaderboard: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/percentiles")
+    public ResponseEntity<PercentileResponse> getPercentiles(
+            @RequestParam(defaultValue = "height") String metric,
+            @RequestParam(required = false) String country,
+            @RequestParam(name = "p", defaultValue = "50,90,99") List<Double> percentiles,
+            WebRequest request) {
+        if (request.checkNotModified(currentETag())) {
+            return null;
+        }
+
+        try {
+            PercentileReport report = getPercentilesUseCase.getPercentiles(
+                    PlayerMetric.fromField(metric), country, percentiles);
+
+            return ResponseEntity.ok(PercentileResponse.fromDomain(report));
+        } catch (IllegalArgumentException e) {
+            log.error("Error when get percentiles: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (NoStatisticAvailableException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @PostMapping
     public ResponseEntity<PlayerStatsResponse> createPlayer(@Valid @RequestBody PlayerCreateRequest request) {
-        log.info("POST /api/players - Create a new player: {} {}",
-                request.getFirstname(), request.getLastname());
-
         try {
             Player player = request.toDomain();
             Player createdPlayer = createPlayerUseCase.createPlayer(player);
@@ -93,25 +250,77 @@ public class PlayerStatsController {
     @PutMapping("/{id}")
     public ResponseEntity<PlayerStatsResponse> updatePlayer(
             @PathVariable Long id,
-            @Valid @RequestBody PlayerUpdateRequest request) {
-        log.info("PUT /api/players/{} - Update player", id);
-
-        Player updatedPlayer = request.toDomain();
-        Player result = updatePlayerUseCase.updatePlayer(id, updatedPlayer);
+            @Valid @RequestBody PlayerUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Player result;
+        try {
+            Player updatedPlayer = request.toDomain();
+            result = ifMatch != null
+                    ? updatePlayerUseCase.updatePlayer(id, updatedPlayer, PlayerVersionTag.parse(ifMatch))
+                    : updatePlayerUseCase.updatePlayer(id, updatedPlayer);
+        } catch (IllegalArgumentException e) {
+            log.error("Error when update player: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (PlayerVersionConflictException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
 
         if (result == null) {
             return ResponseEntity.notFound().build();
         }
 
         PlayerStatsResponse response = PlayerStatsResponse.fromDomain(result);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(PlayerVersionTag.of(result.getVersion()))
+                .body(response);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResponse>> createPlayers(@RequestBody List<PlayerCreateRequest> requests) {
+        return ResponseEntity.ok(batchProcessor.createPlayers(requests));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<List<BatchItemResponse>> updatePlayers(@RequestBody List<PlayerUpdateRequest> requests) {
+        return ResponseEntity.ok(batchProcessor.updatePlayers(requests));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<BatchItemResponse>> deletePlayers(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(batchProcessor.deletePlayers(ids));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePlayer(@PathVariable Long id) {
-        log.info("DELETE /api/players/{} - Delete player", id);
-
         deletePlayerUseCase.deletePlayer(id);
         return ResponseEntity.noContent().build();
     }
+
+    private String currentETag() {
+        return "\"" + Long.toHexString(STARTED_AT) + "-" + getDatasetVersionUseCase.getDatasetVersion() + "\"";
+    }
+
+    private void writePlayers(OutputStream outputStream, boolean asArray) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream);
+             Stream<Player> players = getPlayerStatsUseCase.streamAllPlayers()) {
+            generator.setRootValueSeparator(null);
+            if (asArray) {
+                generator.writeStartArray();
+            }
+
+            Iterator<Player> iterator = players.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, PlayerStatsResponse.fromDomain(iterator.next()));
+                if (!asArray) {
+                    generator.writeRaw('\n');
+                }
+            }
+
+            if (asArray) {
+                generator.writeEndArray();
+            }
+        }
+    }
 }
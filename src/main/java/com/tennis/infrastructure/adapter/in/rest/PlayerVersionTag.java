@@ -0,0 +1,32 @@
+package com.tennis.infrastructure.adapter.in.rest;
+
+public final class PlayerVersionTag {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private PlayerVersionTag() {
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static Long parse(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.equals(ANY)) {
+            return null;
+        }
+        if (tag.startsWith(WEAK_PREFIX)) {
+            tag = tag.substring(WEAK_PREFIX.length());
+        }
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            throw new IllegalArgumentException("If-Match must be a quoted player version, got " + ifMatch);
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must be a quoted player version, got " + ifMatch);
+        }
+    }
+}
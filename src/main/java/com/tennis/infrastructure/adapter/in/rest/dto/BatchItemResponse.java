@@ -0,0 +1,39 @@
+package com.tennis.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tennis.domain.model.BatchItemResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResponse {
+    private int index;
+    private BatchItemResult.Status status;
+    private Long id;
+    private PlayerStatsResponse player;
+    private String error;
+
+    public static BatchItemResponse fromDomain(int index, BatchItemResult result) {
+        return BatchItemResponse.builder()
+                .index(index)
+                .status(result.getStatus())
+                .id(result.getId())
+                .player(result.getPlayer() != null ? PlayerStatsResponse.fromDomain(result.getPlayer()) : null)
+                .error(result.getError())
+                .build();
+    }
+
+    public static BatchItemResponse invalid(int index, String error) {
+        return BatchItemResponse.builder()
+                .index(index)
+                .status(BatchItemResult.Status.INVALID)
+                .error(error)
+                .build();
+    }
+}
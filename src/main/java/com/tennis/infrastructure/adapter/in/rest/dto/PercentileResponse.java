@@ -0,0 +1,38 @@
+package com.tennis.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tennis.domain.model.PercentileReport;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PercentileResponse {
+    private String countryCode;
+    private String metric;
+    private long count;
+    private Map<String, Double> percentiles;
+
+    public static PercentileResponse fromDomain(PercentileReport report) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        report.getPercentiles().forEach((percentile, value) -> percentiles.put(
+                "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(),
+                Math.round(value * 100.0) / 100.0));
+
+        return PercentileResponse.builder()
+                .countryCode(report.getCountryCode())
+                .metric(report.getMetric().getField())
+                .count(report.getCount())
+                .percentiles(percentiles)
+                .build();
+    }
+}
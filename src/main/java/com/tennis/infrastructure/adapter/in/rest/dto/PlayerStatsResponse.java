@@ -21,6 +21,7 @@ public class PlayerStatsResponse {
     private CountryDto country;
     private String picture;
     private PlayerDataDto data;
+    private Long version;
 
     public static PlayerStatsResponse fromDomain(Player player) {
         return PlayerStatsResponse.builder()
@@ -35,6 +36,7 @@ public class PlayerStatsResponse {
                                 .code(player.getCountry().getCode())
                                 .build() : null)
                 .picture(player.getPicture())
+                .version(player.getVersion() > 0 ? player.getVersion() : null)
                 .data(player.getData() != null ?
                         PlayerDataDto.builder()
                                 .rank(player.getData().getRank())
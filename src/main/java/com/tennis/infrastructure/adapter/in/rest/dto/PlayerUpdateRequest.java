@@ -16,6 +16,7 @@ import java.util.List;
 @AllArgsConstructor
 public class PlayerUpdateRequest {
 
+    private Long id;
     private String firstname;
     private String lastname;
     private String shortname;
@@ -0,0 +1,17 @@
+package com.tennis.infrastructure.adapter.in.rest.dto;
+
+public enum SortOrder {
+    ASC, DESC;
+
+    public static SortOrder fromParameter(String order) {
+        return switch (order.toLowerCase()) {
+            case "asc" -> ASC;
+            case "desc" -> DESC;
+            default -> throw new IllegalArgumentException("Order must be asc or desc, got " + order);
+        };
+    }
+
+    public boolean isDescending() {
+        return this == DESC;
+    }
+}
@@ -0,0 +1,155 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerData;
+import com.tennis.domain.model.PlayerSearchCriteria;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed bitmaps of player ids by country code, sex, age bucket and rank bucket. Country codes and sexes
+ * are keyed upper case, like the search criteria. Candidates of a boundary bucket still have to be checked against the criteria.
+ */
+class BitmapPlayerIndex implements PlayerIndex {
+
+    static final int AGE_BUCKET_WIDTH = 5;
+    static final int RANK_BUCKET_WIDTH = 100;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Roaring64Bitmap all = new Roaring64Bitmap();
+    private final Map<String, Roaring64Bitmap> byCountry = new HashMap<>();
+    private final Map<String, Roaring64Bitmap> bySex = new HashMap<>();
+    private final NavigableMap<Integer, Roaring64Bitmap> byAgeBucket = new TreeMap<>();
+    private final NavigableMap<Integer, Roaring64Bitmap> byRankBucket = new TreeMap<>();
+
+    @Override
+    public void add(Player player) {
+        PlayerData data = player.getData();
+        add(player.getId(),
+                player.hasValidCountry() ? player.getCountry().getCode() : null,
+                player.getSex(),
+                data != null ? data.getAge() : null,
+                data != null ? data.getRank() : null);
+    }
+
+    @Override
+    public void remove(Player player) {
+        PlayerData data = player.getData();
+        remove(player.getId(),
+                player.hasValidCountry() ? player.getCountry().getCode() : null,
+                player.getSex(),
+                data != null ? data.getAge() : null,
+                data != null ? data.getRank() : null);
+    }
+
+    void add(long id, String countryCode, String sex, Integer age, Integer rank) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            all.addLong(id);
+            if (countryCode != null) {
+                byCountry.computeIfAbsent(keyOf(countryCode), key -> new Roaring64Bitmap()).addLong(id);
+            }
+            if (sex != null) {
+                bySex.computeIfAbsent(keyOf(sex), key -> new Roaring64Bitmap()).addLong(id);
+            }
+            if (age != null) {
+                byAgeBucket.computeIfAbsent(bucketOf(age, AGE_BUCKET_WIDTH), key -> new Roaring64Bitmap()).addLong(id);
+            }
+            if (rank != null) {
+                byRankBucket.computeIfAbsent(bucketOf(rank, RANK_BUCKET_WIDTH), key -> new Roaring64Bitmap()).addLong(id);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void remove(long id, String countryCode, String sex, Integer age, Integer rank) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            all.removeLong(id);
+            if (countryCode != null) {
+                removeFrom(byCountry, keyOf(countryCode), id);
+            }
+            if (sex != null) {
+                removeFrom(bySex, keyOf(sex), id);
+            }
+            if (age != null) {
+                removeFrom(byAgeBucket, bucketOf(age, AGE_BUCKET_WIDTH), id);
+            }
+            if (rank != null) {
+                removeFrom(byRankBucket, bucketOf(rank, RANK_BUCKET_WIDTH), id);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return all.getIntCardinality();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    Roaring64Bitmap candidates(PlayerSearchCriteria criteria) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            Roaring64Bitmap candidates = all.clone();
+            if (criteria.getCountryCode() != null) {
+                candidates.and(byCountry.getOrDefault(keyOf(criteria.getCountryCode()), new Roaring64Bitmap()));
+            }
+            if (criteria.getSex() != null) {
+                candidates.and(bySex.getOrDefault(keyOf(criteria.getSex()), new Roaring64Bitmap()));
+            }
+            if (criteria.getMinAge() != null) {
+                candidates.and(union(byAgeBucket.tailMap(bucketOf(criteria.getMinAge(), AGE_BUCKET_WIDTH), true)));
+            }
+            if (criteria.getMaxRank() != null) {
+                candidates.and(union(byRankBucket.headMap(bucketOf(criteria.getMaxRank(), RANK_BUCKET_WIDTH), true)));
+            }
+            return candidates;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, Roaring64Bitmap> bitmaps, K key, long id) {
+        Roaring64Bitmap bitmap = bitmaps.get(key);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.removeLong(id);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+
+    private static Roaring64Bitmap union(Map<Integer, Roaring64Bitmap> buckets) {
+        Roaring64Bitmap union = new Roaring64Bitmap();
+        buckets.values().forEach(union::or);
+        return union;
+    }
+
+    private static int bucketOf(int value, int width) {
+        return Math.floorDiv(value, width);
+    }
+
+    private static String keyOf(String value) {
+        return value.toUpperCase(Locale.ROOT);
+    }
+}
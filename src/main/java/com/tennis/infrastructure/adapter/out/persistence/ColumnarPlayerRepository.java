@@ -0,0 +1,811 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.domain.model.Country;
+import com.tennis.domain.model.CountryAggregate;
+import com.tennis.domain.model.MatchHistory;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerChangedEvent;
+import com.tennis.domain.model.PlayerReplacement;
+import com.tennis.domain.model.PlayerData;
+import com.tennis.domain.model.PlayerSearchCriteria;
+import com.tennis.domain.port.out.PlayerRepository;
+import com.tennis.infrastructure.logging.AccessLog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+@Repository
+@ConditionalOnProperty(prefix = "tennis.persistence", name = "store", havingValue = "columnar")
+@Slf4j
+public class ColumnarPlayerRepository implements PlayerRepository, ApplicationEventPublisherAware, MeterBinder {
+
+    private static final int NULL_VALUE = Integer.MIN_VALUE;
+    private static final int NULL_CODE = -1;
+    private static final byte NULL_HISTORY = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    @Value("${tennis.persistence.dataset:classpath:headtohead.json}")
+    private Resource playersResource;
+
+    private final PlayerJsonLoader jsonLoader;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ValueDictionary<Country> countryDictionary = new ValueDictionary<>();
+    private final ValueDictionary<String> sexDictionary = new ValueDictionary<>();
+    private final LongIntMap slotsById = new LongIntMap();
+    private final BitmapPlayerIndex searchIndex = new BitmapPlayerIndex();
+    private final NamePrefixIndex nameIndex = new NamePrefixIndex();
+    private final AtomicLong version = new AtomicLong();
+    private volatile RankOrder rankOrder;
+    private ApplicationEventPublisher eventPublisher;
+    private AccessLog accessLog = AccessLog.disabled();
+
+    private int size;
+    private long maxId;
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[] firstnames = new String[INITIAL_CAPACITY];
+    private String[] lastnames = new String[INITIAL_CAPACITY];
+    private String[] shortnames = new String[INITIAL_CAPACITY];
+    private String[] pictures = new String[INITIAL_CAPACITY];
+    private int[] sexes = new int[INITIAL_CAPACITY];
+    private int[] countries = new int[INITIAL_CAPACITY];
+    private boolean[] hasData = new boolean[INITIAL_CAPACITY];
+    private int[] ranks = new int[INITIAL_CAPACITY];
+    private int[] points = new int[INITIAL_CAPACITY];
+    private int[] weights = new int[INITIAL_CAPACITY];
+    private int[] heights = new int[INITIAL_CAPACITY];
+    private int[] ages = new int[INITIAL_CAPACITY];
+    private long[] historyBits = new long[INITIAL_CAPACITY];
+    private byte[] historyLengths = new byte[INITIAL_CAPACITY];
+    private byte[] historyWindows = new byte[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+
+    public ColumnarPlayerRepository(ObjectMapper objectMapper) {
+        this.jsonLoader = new PlayerJsonLoader(objectMapper);
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            jsonLoader.load(playersResource, this::write);
+        } catch (Exception e) {
+            log.warn("Unable to load the headtohead.json file, the repository will be empty at start: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public List<Player> findAll() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            List<Player> players = new ArrayList<>(size);
+            for (int slot = 0; slot < size; slot++) {
+                players.add(materialize(slot));
+            }
+            return players;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Stream<Player> streamAll() {
+        return Arrays.stream(liveIds())
+                .mapToObj(this::findById)
+                .flatMap(Optional::stream);
+    }
+
+    @Override
+    public Optional<Player> findById(Long id) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int slot = slotsById.get(id);
+            return slot != LongIntMap.MISSING ? Optional.of(materialize(slot)) : Optional.empty();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public void save(Player player) {
+        long start = System.nanoTime();
+        write(player);
+        publishChanges(List.of(player.getId()));
+        accessLog.write("save", 1, System.nanoTime() - start);
+    }
+
+    @Override
+    public Optional<Player> replace(Player expected, Player updated) {
+        long start = System.nanoTime();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            int slot = slotsById.get(expected.getId());
+            if (slot == LongIntMap.MISSING || versions[slot] != expected.getVersion()) {
+                return Optional.empty();
+            }
+            put(updated);
+        } finally {
+            writeLock.unlock();
+        }
+        publishChanges(List.of(updated.getId()));
+        accessLog.write("replace", 1, System.nanoTime() - start);
+        return Optional.of(updated);
+    }
+
+    @Override
+    public Map<Long, Player> replaceAll(List<PlayerReplacement> replacements) {
+        long start = System.nanoTime();
+        Map<Long, Player> stored = new LinkedHashMap<>();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            for (PlayerReplacement replacement : replacements) {
+                int slot = slotsById.get(replacement.expected().getId());
+                if (slot != LongIntMap.MISSING && versions[slot] == replacement.expected().getVersion()) {
+                    put(replacement.updated());
+                    stored.put(replacement.updated().getId(), replacement.updated());
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        publishChanges(stored.keySet());
+        accessLog.write("replaceAll", stored.size(), System.nanoTime() - start);
+        return stored;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        long start = System.nanoTime();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (!remove(id)) {
+                return;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        publishChanges(List.of(id));
+        accessLog.write("delete", 1, System.nanoTime() - start);
+    }
+
+    @Override
+    public void saveAll(List<Player> players) {
+        long start = System.nanoTime();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            ensureCapacity(size + players.size());
+            players.forEach(this::put);
+        } finally {
+            writeLock.unlock();
+        }
+        publishChanges(players.stream().map(Player::getId).toList());
+        accessLog.write("saveAll", players.size(), System.nanoTime() - start);
+    }
+
+    @Override
+    public Set<Long> deleteAllById(Collection<Long> ids) {
+        long start = System.nanoTime();
+        Set<Long> deleted = new HashSet<>();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            for (Long id : ids) {
+                if (remove(id)) {
+                    deleted.add(id);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        publishChanges(deleted);
+        accessLog.write("deleteAll", deleted.size(), System.nanoTime() - start);
+        return deleted;
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Autowired(required = false)
+    public void setAccessLog(AccessLog accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tennis.players", this, ColumnarPlayerRepository::count)
+                .description("Number of players in the repository")
+                .register(registry);
+        Gauge.builder("tennis.index.size", countryDictionary, this::dictionarySize)
+                .tag("index", "country")
+                .register(registry);
+        Gauge.builder("tennis.index.size", sexDictionary, this::dictionarySize)
+                .tag("index", "sex")
+                .register(registry);
+        Gauge.builder("tennis.index.size", searchIndex, PlayerIndex::size)
+                .tag("index", "search")
+                .register(registry);
+        Gauge.builder("tennis.index.size", nameIndex, PlayerIndex::size)
+                .tag("index", "name")
+                .register(registry);
+    }
+
+    @Override
+    public Collection<CountryAggregate> findCountryAggregates() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return new CountryAggregationTask(0, size).invoke().values();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public CountryAggregate findGlobalAggregate() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            CountryAggregate global = new CountryAggregate(null);
+            for (int slot = 0; slot < size; slot++) {
+                addSlot(global, slot);
+            }
+            return global;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Player> findAllSortedByRank(int offset, int limit) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int[] ranked = rankOrder().ranked();
+            int end = (int) Math.min(ranked.length, (long) offset + limit);
+            List<Player> page = new ArrayList<>(Math.max(0, end - offset));
+            for (int i = offset; i < end; i++) {
+                page.add(materialize(ranked[i]));
+            }
+            return page;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Player> search(PlayerSearchCriteria criteria, int offset, int limit) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            RankOrder order = rankOrder();
+            Roaring64Bitmap candidates = searchIndex.candidates(criteria);
+            long[] positions = new long[candidates.getIntCardinality()];
+            int[] matched = {0};
+            candidates.forEach(id -> {
+                int slot = slotsById.get(id);
+                if (slot != LongIntMap.MISSING && matches(criteria, slot)) {
+                    positions[matched[0]++] = order.positions()[slot];
+                }
+            });
+            Arrays.sort(positions, 0, matched[0]);
+
+            int end = (int) Math.min(matched[0], (long) offset + limit);
+            List<Player> page = new ArrayList<>(Math.max(0, end - offset));
+            for (int i = offset; i < end; i++) {
+                page.add(materialize(order.slots()[(int) positions[i]]));
+            }
+            return page;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Player> suggest(String prefix, int limit) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            List<Player> suggestions = new ArrayList<>(limit);
+            for (long id : nameIndex.prefix(prefix, limit)) {
+                int slot = slotsById.get(id);
+                if (slot != LongIntMap.MISSING) {
+                    suggestions.add(materialize(slot));
+                }
+            }
+            return suggestions;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void write(Player player) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            put(player);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void put(Player player) {
+        rankOrder = null;
+        if (player.getId() == null) {
+            player.setId(maxId + 1);
+        }
+        maxId = Math.max(maxId, player.getId());
+
+        int slot = slotsById.get(player.getId());
+        if (slot == LongIntMap.MISSING) {
+            ensureCapacity(size + 1);
+            slot = size++;
+            slotsById.put(player.getId(), slot);
+            player.setVersion(1);
+        } else {
+            unindexSlot(slot);
+            player.setVersion(versions[slot] + 1);
+        }
+        writeSlot(slot, player);
+        searchIndex.add(player);
+        nameIndex.add(player);
+    }
+
+    private boolean remove(Long id) {
+        int slot = slotsById.get(id);
+        if (slot == LongIntMap.MISSING) {
+            return false;
+        }
+
+        rankOrder = null;
+        unindexSlot(slot);
+        int last = size - 1;
+        if (slot != last) {
+            moveSlot(last, slot);
+            slotsById.put(ids[slot], slot);
+        }
+        clearSlot(last);
+        slotsById.remove(id);
+        size--;
+        return true;
+    }
+
+    private void publishChanges(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        version.incrementAndGet();
+        if (eventPublisher != null) {
+            ids.forEach(id -> eventPublisher.publishEvent(new PlayerChangedEvent(id)));
+        }
+    }
+
+    private int count() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return size;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private long[] liveIds() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return Arrays.copyOf(ids, size);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private RankOrder rankOrder() {
+        RankOrder current = rankOrder;
+        if (current == null) {
+            current = computeRankOrder();
+            rankOrder = current;
+        }
+        return current;
+    }
+
+    private RankOrder computeRankOrder() {
+        long[] keys = new long[size];
+        int ranked = 0;
+        for (int slot = 0; slot < size; slot++) {
+            int rank = hasData[slot] && ranks[slot] != NULL_VALUE ? ranks[slot] : Integer.MAX_VALUE;
+            keys[slot] = ((long) rank << Integer.SIZE) | slot;
+            if (hasData[slot]) {
+                ranked++;
+            }
+        }
+        Arrays.sort(keys);
+        orderTiesById(keys, size);
+
+        int[] slots = new int[size];
+        int[] positions = new int[size];
+        int[] rankedSlots = new int[ranked];
+        int next = 0;
+        for (int position = 0; position < size; position++) {
+            int slot = (int) keys[position];
+            slots[position] = slot;
+            positions[slot] = position;
+            if (hasData[slot]) {
+                rankedSlots[next++] = slot;
+            }
+        }
+        return new RankOrder(slots, positions, rankedSlots);
+    }
+
+    private Map<String, CountryAggregate> aggregateCountries(int from, int to) {
+        Map<String, CountryAggregate> aggregatesByCode = new HashMap<>();
+        CountryAggregate[] aggregatesByDictionaryCode = new CountryAggregate[countryDictionary.size()];
+
+        for (int slot = from; slot < to; slot++) {
+            int country = countries[slot];
+            if (country == NULL_CODE || countryDictionary.decode(country).getCode() == null) {
+                continue;
+            }
+            CountryAggregate aggregate = aggregatesByDictionaryCode[country];
+            if (aggregate == null) {
+                aggregate = aggregatesByCode.computeIfAbsent(countryDictionary.decode(country).getCode(), CountryAggregate::new);
+                aggregatesByDictionaryCode[country] = aggregate;
+            }
+
+            addSlot(aggregate, slot);
+        }
+        return aggregatesByCode;
+    }
+
+    private void addSlot(CountryAggregate aggregate, int slot) {
+        if (hasData[slot]) {
+            aggregate.add(winRate(slot), bmi(slot), integerOf(heights[slot]), integerOf(weights[slot]), integerOf(ages[slot]));
+        } else {
+            aggregate.addWithoutData();
+        }
+    }
+
+    private void unindexSlot(int slot) {
+        Country country = countryDictionary.decode(countries[slot]);
+        searchIndex.remove(ids[slot],
+                country != null ? country.getCode() : null,
+                sexDictionary.decode(sexes[slot]),
+                integerOf(ages[slot]),
+                integerOf(ranks[slot]));
+        nameIndex.remove(ids[slot], integerOf(ranks[slot]), firstnames[slot], lastnames[slot], shortnames[slot]);
+    }
+
+    private boolean matches(PlayerSearchCriteria criteria, int slot) {
+        Country country = countryDictionary.decode(countries[slot]);
+        return criteria.matches(country != null ? country.getCode() : null,
+                sexDictionary.decode(sexes[slot]),
+                integerOf(ages[slot]),
+                integerOf(ranks[slot]));
+    }
+
+    private int dictionarySize(ValueDictionary<?> dictionary) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return dictionary.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void writeSlot(int slot, Player player) {
+        ids[slot] = player.getId();
+        versions[slot] = player.getVersion();
+        firstnames[slot] = player.getFirstname();
+        lastnames[slot] = player.getLastname();
+        shortnames[slot] = player.getShortname();
+        pictures[slot] = player.getPicture();
+        sexes[slot] = sexDictionary.encode(player.getSex());
+        countries[slot] = player.getCountry() != null
+                ? countryDictionary.encode(Country.builder()
+                        .code(player.getCountry().getCode())
+                        .picture(player.getCountry().getPicture())
+                        .build())
+                : NULL_CODE;
+
+        PlayerData data = player.getData();
+        hasData[slot] = data != null;
+        ranks[slot] = data != null ? valueOf(data.getRank()) : NULL_VALUE;
+        points[slot] = data != null ? valueOf(data.getPoints()) : NULL_VALUE;
+        weights[slot] = data != null ? valueOf(data.getWeight()) : NULL_VALUE;
+        heights[slot] = data != null ? valueOf(data.getHeight()) : NULL_VALUE;
+        ages[slot] = data != null ? valueOf(data.getAge()) : NULL_VALUE;
+        writeHistory(slot, data != null ? data.getHistory() : null);
+    }
+
+    private void writeHistory(int slot, MatchHistory history) {
+        historyBits[slot] = history != null ? history.getResults() : 0L;
+        historyLengths[slot] = history != null ? (byte) history.getLength() : NULL_HISTORY;
+        historyWindows[slot] = history != null ? (byte) history.getWindow() : 0;
+    }
+
+    private Player materialize(int slot) {
+        Country country = countryDictionary.decode(countries[slot]);
+        return Player.builder()
+                .id(ids[slot])
+                .firstname(firstnames[slot])
+                .lastname(lastnames[slot])
+                .shortname(shortnames[slot])
+                .sex(sexDictionary.decode(sexes[slot]))
+                .picture(pictures[slot])
+                .country(country != null ? Country.builder()
+                        .code(country.getCode())
+                        .picture(country.getPicture())
+                        .build() : null)
+                .data(hasData[slot] ? PlayerData.builder()
+                        .rank(integerOf(ranks[slot]))
+                        .points(integerOf(points[slot]))
+                        .weight(integerOf(weights[slot]))
+                        .height(integerOf(heights[slot]))
+                        .age(integerOf(ages[slot]))
+                        .history(readHistory(slot))
+                        .build() : null)
+                .version(versions[slot])
+                .build();
+    }
+
+    private MatchHistory readHistory(int slot) {
+        return historyLengths[slot] != NULL_HISTORY
+                ? MatchHistory.fromBits(historyBits[slot], historyLengths[slot], historyWindows[slot])
+                : null;
+    }
+
+    private double winRate(int slot) {
+        byte length = historyLengths[slot];
+        if (length <= 0) {
+            return 0.0;
+        }
+        return (double) Long.bitCount(historyBits[slot]) / length * 100;
+    }
+
+    private double bmi(int slot) {
+        if (weights[slot] == NULL_VALUE || heights[slot] == NULL_VALUE || heights[slot] <= 0) {
+            return Double.NaN;
+        }
+        double heightInMeters = heights[slot] / 100.0;
+        return (weights[slot] / 1000.0) / (heightInMeters * heightInMeters);
+    }
+
+    private void orderTiesById(long[] rankedSlots, int ranked) {
+        int start = 0;
+        while (start < ranked) {
+            int end = start + 1;
+            while (end < ranked && rankedSlots[end] >> Integer.SIZE == rankedSlots[start] >> Integer.SIZE) {
+                end++;
+            }
+            if (end - start > 1) {
+                long[] tie = Arrays.copyOfRange(rankedSlots, start, end);
+                Long[] boxed = Arrays.stream(tie).boxed().toArray(Long[]::new);
+                Arrays.sort(boxed, Comparator.comparingLong(key -> ids[(int) (long) key]));
+                for (int i = 0; i < boxed.length; i++) {
+                    rankedSlots[start + i] = boxed[i];
+                }
+            }
+            start = end;
+        }
+    }
+
+    private void moveSlot(int from, int to) {
+        ids[to] = ids[from];
+        firstnames[to] = firstnames[from];
+        lastnames[to] = lastnames[from];
+        shortnames[to] = shortnames[from];
+        pictures[to] = pictures[from];
+        sexes[to] = sexes[from];
+        countries[to] = countries[from];
+        hasData[to] = hasData[from];
+        ranks[to] = ranks[from];
+        points[to] = points[from];
+        weights[to] = weights[from];
+        heights[to] = heights[from];
+        ages[to] = ages[from];
+        historyBits[to] = historyBits[from];
+        historyLengths[to] = historyLengths[from];
+        historyWindows[to] = historyWindows[from];
+        versions[to] = versions[from];
+    }
+
+    private void clearSlot(int slot) {
+        firstnames[slot] = null;
+        lastnames[slot] = null;
+        shortnames[slot] = null;
+        pictures[slot] = null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, newCapacity);
+        firstnames = Arrays.copyOf(firstnames, newCapacity);
+        lastnames = Arrays.copyOf(lastnames, newCapacity);
+        shortnames = Arrays.copyOf(shortnames, newCapacity);
+        pictures = Arrays.copyOf(pictures, newCapacity);
+        sexes = Arrays.copyOf(sexes, newCapacity);
+        countries = Arrays.copyOf(countries, newCapacity);
+        hasData = Arrays.copyOf(hasData, newCapacity);
+        ranks = Arrays.copyOf(ranks, newCapacity);
+        points = Arrays.copyOf(points, newCapacity);
+        weights = Arrays.copyOf(weights, newCapacity);
+        heights = Arrays.copyOf(heights, newCapacity);
+        ages = Arrays.copyOf(ages, newCapacity);
+        historyBits = Arrays.copyOf(historyBits, newCapacity);
+        historyLengths = Arrays.copyOf(historyLengths, newCapacity);
+        historyWindows = Arrays.copyOf(historyWindows, newCapacity);
+        versions = Arrays.copyOf(versions, newCapacity);
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : NULL_VALUE;
+    }
+
+    private static Integer integerOf(int value) {
+        return value != NULL_VALUE ? value : null;
+    }
+
+    private record RankOrder(int[] slots, int[] positions, int[] ranked) {
+    }
+
+    private final class CountryAggregationTask extends RecursiveTask<Map<String, CountryAggregate>> {
+        private final int from;
+        private final int to;
+
+        private CountryAggregationTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<String, CountryAggregate> compute() {
+            if (to - from <= CountryAggregate.PARALLEL_THRESHOLD) {
+                return aggregateCountries(from, to);
+            }
+
+            int middle = (from + to) >>> 1;
+            CountryAggregationTask right = new CountryAggregationTask(middle, to);
+            right.fork();
+            Map<String, CountryAggregate> left = new CountryAggregationTask(from, middle).compute();
+            return CountryAggregate.mergeAll(left, right.join());
+        }
+    }
+
+    private static final class ValueDictionary<T> {
+        private final List<T> values = new ArrayList<>();
+        private final Map<T, Integer> codes = new HashMap<>();
+
+        int encode(T value) {
+            if (value == null) {
+                return NULL_CODE;
+            }
+            return codes.computeIfAbsent(value, key -> {
+                values.add(key);
+                return values.size() - 1;
+            });
+        }
+
+        T decode(int code) {
+            return code != NULL_CODE ? values.get(code) : null;
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    private static final class LongIntMap {
+        static final int MISSING = -1;
+
+        private long[] keys = new long[16];
+        private int[] values = filledWithMissing(16);
+        private int size;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = indexOf(key, mask); values[i] != MISSING; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return MISSING;
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 4L > keys.length * 3L) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int i = indexOf(key, mask);
+            while (values[i] != MISSING) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+
+        void remove(long key) {
+            int mask = keys.length - 1;
+            int gap = indexOf(key, mask);
+            while (values[gap] != MISSING && keys[gap] != key) {
+                gap = (gap + 1) & mask;
+            }
+            if (values[gap] == MISSING) {
+                return;
+            }
+
+            for (int i = (gap + 1) & mask; values[i] != MISSING; i = (i + 1) & mask) {
+                int home = indexOf(keys[i], mask);
+                if (((i - home) & mask) >= ((i - gap) & mask)) {
+                    keys[gap] = keys[i];
+                    values[gap] = values[i];
+                    gap = i;
+                }
+            }
+            values[gap] = MISSING;
+            size--;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[capacity];
+            values = filledWithMissing(capacity);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != MISSING) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int indexOf(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+
+        private static int[] filledWithMissing(int capacity) {
+            int[] values = new int[capacity];
+            Arrays.fill(values, MISSING);
+            return values;
+        }
+    }
+}
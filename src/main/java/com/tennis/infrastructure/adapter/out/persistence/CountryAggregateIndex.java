@@ -0,0 +1,53 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.tennis.domain.model.CountryAggregate;
+import com.tennis.domain.model.Player;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class CountryAggregateIndex implements PlayerIndex {
+
+    private final Map<String, CountryAggregate> aggregates = new ConcurrentHashMap<>();
+    private final CountryAggregate global = new CountryAggregate(null);
+
+    @Override
+    public void add(Player player) {
+        global.add(player);
+        if (!player.hasValidCountry()) {
+            return;
+        }
+        aggregates.compute(player.getCountry().getCode(), (code, aggregate) -> {
+            CountryAggregate target = aggregate != null ? aggregate : new CountryAggregate(code);
+            target.add(player);
+            return target;
+        });
+    }
+
+    @Override
+    public void remove(Player player) {
+        global.remove(player);
+        if (!player.hasValidCountry()) {
+            return;
+        }
+        aggregates.computeIfPresent(player.getCountry().getCode(), (code, aggregate) -> {
+            aggregate.remove(player);
+            return aggregate.isEmpty() ? null : aggregate;
+        });
+    }
+
+    @Override
+    public int size() {
+        return aggregates.size();
+    }
+
+    CountryAggregate global() {
+        return global;
+    }
+
+    Collection<CountryAggregate> aggregates() {
+        return Collections.unmodifiableCollection(aggregates.values());
+    }
+}
@@ -1,100 +1,481 @@
 package com.tennis.infrastructure.adapter.out.persistence;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.domain.model.CountryAggregate;
 import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerChangedEvent;
+import com.tennis.domain.model.PlayerReplacement;
+import com.tennis.domain.model.PlayerSearchCriteria;
 import com.tennis.domain.port.out.PlayerRepository;
+import com.tennis.infrastructure.logging.AccessLog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Repository;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 @Repository
+@ConditionalOnProperty(prefix = "tennis.persistence", name = "store", havingValue = "json", matchIfMissing = true)
 @Slf4j
-public class JsonPlayerRepository implements PlayerRepository {
+public class JsonPlayerRepository implements PlayerRepository, ApplicationEventPublisherAware, MeterBinder {
 
-    @Value("classpath:headtohead.json")
+    private static final CompletableFuture<Void> WRITTEN = CompletableFuture.completedFuture(null);
+    private static final int WRITE_STRIPES = 64;
+
+    @Value("${tennis.persistence.dataset:classpath:headtohead.json}")
     private Resource playersResource;
 
-    private final ObjectMapper objectMapper;
-    private final Map<Long, Player> playerCache = new ConcurrentHashMap<>();
+    private final PlayerJsonLoader jsonLoader;
+    private final PlayerJournal journal;
+    private final PlayerSnapshotStore snapshotStore;
+    private final PlayerDatasetWatcher datasetWatcher;
+    private final AtomicReference<PlayerSnapshot> snapshot = new AtomicReference<>(PlayerSnapshot.EMPTY);
+    private final Map<Long, Player> indexedPlayers = new ConcurrentHashMap<>();
+    private final StripedLock writeLocks = new StripedLock(WRITE_STRIPES);
+    private final PlayerIdSequence ids = new PlayerIdSequence();
+    private final CountryAggregateIndex countryAggregateIndex = new CountryAggregateIndex();
+    private final RankIndex rankIndex = new RankIndex();
+    private final BitmapPlayerIndex searchIndex = new BitmapPlayerIndex();
+    private final NamePrefixIndex nameIndex = new NamePrefixIndex();
+    private final List<PlayerIndex> indexes = List.of(countryAggregateIndex, rankIndex, searchIndex, nameIndex);
+    private final AtomicLong version = new AtomicLong();
+    private ApplicationEventPublisher eventPublisher;
+    private AccessLog accessLog = AccessLog.disabled();
 
     public JsonPlayerRepository(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this(objectMapper, Optional.empty(), Optional.empty(), Optional.empty());
     }
 
-    @PostConstruct
-    public void init() {
-        try {
-            loadPlayers();
-        } catch (Exception e) {
-            log.warn("Unable to load the headtohead.json file, the repository will be empty at start: {}", e.getMessage());
+    @Autowired
+    public JsonPlayerRepository(ObjectMapper objectMapper,
+                                Optional<PlayerJournal> journal,
+                                Optional<PlayerSnapshotStore> snapshotStore,
+                                Optional<PlayerDatasetWatcher> datasetWatcher) {
+        this.jsonLoader = new PlayerJsonLoader(objectMapper);
+        this.journal = journal.orElse(null);
+        this.snapshotStore = snapshotStore.orElse(null);
+        if (this.journal != null && this.snapshotStore != null
+                && this.journal.snapshotPath().toAbsolutePath().normalize()
+                .equals(this.snapshotStore.path().toAbsolutePath().normalize())) {
+            throw new IllegalStateException("The journal and the dataset snapshot cannot share the file "
+                    + this.snapshotStore.path());
         }
+        this.datasetWatcher = datasetWatcher.orElse(null);
     }
 
-    private void loadPlayers() {
-        try {
-            if (playersResource == null || !playersResource.exists()) {
-                log.warn("File headtohead.json not find, the repository will be empty at start");
-                return;
+    @PostConstruct
+    public void init() {
+        if (journal != null && journal.loadSnapshot(this::store, ids::observe)) {
+            log.info("Restored {} players from the journal snapshot", snapshot.get().size());
+        } else if (snapshotStore != null && snapshotStore.load(PlayerJsonLoader.fingerprint(playersResource), this::store)) {
+            log.info("Restored {} players from the snapshot", snapshot.get().size());
+        } else {
+            try {
+                jsonLoader.load(playersResource, this::store);
+                if (snapshotStore != null) {
+                    snapshotStore.write(PlayerJsonLoader.fingerprint(playersResource), indexedPlayers.values());
+                }
+            } catch (Exception e) {
+                log.warn("Unable to load the headtohead.json file, the repository will be empty at start: {}", e.getMessage());
             }
+        }
 
-            PlayerListWrapper wrapper = objectMapper.readValue(playersResource.getInputStream(), PlayerListWrapper.class);
-
-            if (wrapper.getPlayers() != null) {
-                wrapper.getPlayers().forEach(player -> playerCache.put(player.getId(), player));
-                log.info("Loading {} players from the JSON file", playerCache.size());
-            }
-        } catch (IOException e) {
-            log.error("Error loading players", e);
-            throw new RuntimeException("Unable to load player data", e);
+        if (journal != null) {
+            journal.replay(this::store, this::evict);
+            journal.start(indexedPlayers::values, ids::last);
+        }
+        if (datasetWatcher != null) {
+            datasetWatcher.start(playersResource, this::reload);
         }
     }
 
     @Override
     public List<Player> findAll() {
-        return new ArrayList<>(playerCache.values());
+        return snapshot.get().players();
+    }
+
+    @Override
+    public Stream<Player> streamAll() {
+        return snapshot.get().players().stream();
     }
 
     @Override
     public Optional<Player> findById(Long id) {
-        return Optional.ofNullable(playerCache.get(id));
+        return Optional.ofNullable(snapshot.get().get(id));
     }
 
     @Override
     public void save(Player player) {
+        long start = System.nanoTime();
         if (player.getId() == null) {
-            player.setId(generateNewId());
+            player.setId(ids.next());
+        }
+        awaitDurability(store(player));
+        publishChanges(List.of(player.getId()));
+        accessLog.write("save", 1, System.nanoTime() - start);
+    }
+
+    @Override
+    public Optional<Player> replace(Player expected, Player updated) {
+        long start = System.nanoTime();
+        CompletableFuture<Void> written = store(updated,
+                previous -> previous != null && previous.getVersion() == expected.getVersion());
+        if (written == null) {
+            return Optional.empty();
+        }
+        awaitDurability(written);
+        publishChanges(List.of(updated.getId()));
+        accessLog.write("replace", 1, System.nanoTime() - start);
+        return Optional.of(updated);
+    }
+
+    @Override
+    public Map<Long, Player> replaceAll(List<PlayerReplacement> replacements) {
+        long start = System.nanoTime();
+        Map<Long, Player> stored = new LinkedHashMap<>();
+        List<CompletableFuture<Void>> writes = new ArrayList<>(replacements.size());
+        for (PlayerReplacement replacement : replacements) {
+            long expectedVersion = replacement.expected().getVersion();
+            CompletableFuture<Void> written = store(replacement.updated(),
+                    previous -> previous != null && previous.getVersion() == expectedVersion);
+            if (written != null) {
+                writes.add(written);
+                stored.put(replacement.updated().getId(), replacement.updated());
+            }
         }
-        playerCache.put(player.getId(), player);
-        log.info("Saved player: {}", player.getFullName());
+        awaitDurability(CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)));
+        publishChanges(stored.keySet());
+        accessLog.write("replaceAll", stored.size(), System.nanoTime() - start);
+        return stored;
     }
 
     @Override
     public void deleteById(Long id) {
-        Player removed = playerCache.remove(id);
+        long start = System.nanoTime();
+        Player removed = awaitDurability(evict(id));
         if (removed != null) {
-            log.info("Deleted player: {}", removed.getFullName());
+            publishChanges(List.of(id));
+            accessLog.write("delete", 1, System.nanoTime() - start);
         }
     }
 
-    private Long generateNewId() {
-        return playerCache.keySet().stream()
-                .max(Long::compareTo)
-                .map(id -> id + 1)
-                .orElse(1L);
+    @Override
+    public void saveAll(List<Player> players) {
+        long start = System.nanoTime();
+        players.stream()
+                .map(Player::getId)
+                .filter(Objects::nonNull)
+                .forEach(ids::observe);
+        long nextId = ids.reserve((int) players.stream()
+                .filter(player -> player.getId() == null)
+                .count());
+
+        List<CompletableFuture<Void>> writes = new ArrayList<>(players.size());
+        for (Player player : players) {
+            if (player.getId() == null) {
+                player.setId(nextId++);
+            }
+            writes.add(store(player));
+        }
+        awaitDurability(CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)));
+        publishChanges(players.stream().map(Player::getId).toList());
+        accessLog.write("saveAll", players.size(), System.nanoTime() - start);
     }
 
-    private static class PlayerListWrapper {
-        private List<Player> players;
+    @Override
+    public Set<Long> deleteAllById(Collection<Long> ids) {
+        long start = System.nanoTime();
+        List<CompletableFuture<Player>> removals = ids.stream()
+                .map(this::evict)
+                .toList();
+        awaitDurability(CompletableFuture.allOf(removals.toArray(CompletableFuture[]::new)));
+
+        Set<Long> deleted = new HashSet<>();
+        removals.forEach(removal -> {
+            Player removed = removal.join();
+            if (removed != null) {
+                deleted.add(removed.getId());
+            }
+        });
+        publishChanges(deleted);
+        accessLog.write("deleteAll", deleted.size(), System.nanoTime() - start);
+        return deleted;
+    }
+
+    void reload(Resource dataset) {
+        long start = System.nanoTime();
+        Map<Long, Player> changed = new LinkedHashMap<>();
+        Roaring64Bitmap listed = new Roaring64Bitmap();
+        PlayerLoadReport report;
+        try {
+            report = jsonLoader.stream(dataset, player -> {
+                listed.addLong(player.getId());
+                if (!player.equals(indexedPlayers.get(player.getId()))) {
+                    changed.put(player.getId(), player);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + dataset.getDescription(), e);
+        }
+        if (report.rejected() > 0) {
+            throw new IllegalArgumentException(report.rejected() + " invalid players in " + dataset.getDescription()
+                    + ", first: " + report.errors().get(0));
+        }
+        List<Long> removed = indexedPlayers.keySet().stream()
+                .filter(id -> !listed.contains(id))
+                .toList();
+        if (changed.isEmpty() && removed.isEmpty()) {
+            log.debug("Reloaded {} without changes", dataset.getDescription());
+            return;
+        }
+
+        List<CompletableFuture<?>> writes = new ArrayList<>(changed.size() + removed.size());
+        writeLocks.lockAll();
+        try {
+            PlayerSnapshot next = snapshot.get();
+            for (Player player : changed.values()) {
+                Player previous = indexedPlayers.get(player.getId());
+                player.setVersion(previous != null ? previous.getVersion() + 1 : 1);
+                next = next.with(player);
+            }
+            for (Long id : removed) {
+                next = next.without(id);
+            }
+            snapshot.set(next);
 
-        public List<Player> getPlayers() {
-            return players != null ? players : Collections.emptyList();
+            for (Player player : changed.values()) {
+                ids.observe(player.getId());
+                writes.add(index(indexedPlayers.get(player.getId()), player.copy()));
+            }
+            for (Long id : removed) {
+                Player previous = indexedPlayers.remove(id);
+                if (previous != null) {
+                    indexes.forEach(index -> index.remove(previous));
+                    writes.add(journalDelete(id, previous));
+                }
+            }
+        } finally {
+            writeLocks.unlockAll();
         }
+
+        awaitDurability(CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)));
+        List<Long> changedIds = new ArrayList<>(changed.keySet());
+        changedIds.addAll(removed);
+        publishChanges(changedIds);
+        accessLog.write("reload", changedIds.size(), System.nanoTime() - start);
+        log.info("Reloaded {}: {} players changed, {} removed", dataset.getDescription(), changed.size(), removed.size());
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
     }
-}
 
+    @Autowired(required = false)
+    public void setAccessLog(AccessLog accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tennis.players", snapshot, current -> current.get().size())
+                .description("Number of players in the repository")
+                .register(registry);
+        Gauge.builder("tennis.index.size", countryAggregateIndex, PlayerIndex::size)
+                .tag("index", "country")
+                .register(registry);
+        Gauge.builder("tennis.index.size", rankIndex, PlayerIndex::size)
+                .tag("index", "rank")
+                .register(registry);
+        Gauge.builder("tennis.index.size", searchIndex, PlayerIndex::size)
+                .tag("index", "search")
+                .register(registry);
+        Gauge.builder("tennis.index.size", nameIndex, PlayerIndex::size)
+                .tag("index", "name")
+                .register(registry);
+    }
+
+    @Override
+    public Collection<CountryAggregate> findCountryAggregates() {
+        return countryAggregateIndex.aggregates();
+    }
+
+    @Override
+    public CountryAggregate findGlobalAggregate() {
+        return countryAggregateIndex.global();
+    }
+
+    @Override
+    public List<Player> findAllSortedByRank(int offset, int limit) {
+        return rankIndex.page(offset, limit);
+    }
+
+    @Override
+    public List<Player> search(PlayerSearchCriteria criteria, int offset, int limit) {
+        PlayerSnapshot current = snapshot.get();
+        List<Player> matches = new ArrayList<>();
+        searchIndex.candidates(criteria).forEach(id -> {
+            Player player = current.get(id);
+            if (player != null && criteria.matches(player)) {
+                matches.add(player);
+            }
+        });
+        return matches.stream()
+                .sorted(Comparator.comparing((Player player) -> player.hasData() ? player.getData().getRank() : null,
+                                Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+                        .thenComparing(Player::getId))
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<Player> suggest(String prefix, int limit) {
+        PlayerSnapshot current = snapshot.get();
+        return nameIndex.prefix(prefix, limit).stream()
+                .map(current::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private CompletableFuture<Void> store(Player player) {
+        return store(player, previous -> true);
+    }
+
+    private CompletableFuture<Void> store(Player player, Predicate<Player> precondition) {
+        Long id = player.getId();
+        Lock lock = writeLocks.forId(id);
+        lock.lock();
+        try {
+            Player previous = indexedPlayers.get(id);
+            if (!precondition.test(previous)) {
+                return null;
+            }
+            ids.observe(id);
+            player.setVersion(previous != null ? previous.getVersion() + 1 : 1);
+            Player published = player.copy();
+            snapshot.updateAndGet(current -> current.with(published));
+            return index(previous, player.copy());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CompletableFuture<Void> index(Player previous, Player stored) {
+        indexes.forEach(index -> {
+            if (previous != null) {
+                index.remove(previous);
+            }
+            index.add(stored);
+        });
+        indexedPlayers.put(stored.getId(), stored);
+        return journalPut(previous, stored);
+    }
+
+    private CompletableFuture<Player> evict(Long id) {
+        Lock lock = writeLocks.forId(id);
+        lock.lock();
+        try {
+            Player previous = indexedPlayers.remove(id);
+            if (previous == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            Player player = snapshot.getAndUpdate(current -> current.without(id)).get(id);
+            indexes.forEach(index -> index.remove(previous));
+            return journalDelete(id, previous).thenApply(written -> player);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CompletableFuture<Void> journalPut(Player previous, Player stored) {
+        if (journal == null || !journal.isStarted()) {
+            return WRITTEN;
+        }
+        return journal.appendPut(stored).whenComplete((written, failure) -> {
+            if (failure != null) {
+                revert(stored.getId(), stored, previous);
+            }
+        });
+    }
+
+    private CompletableFuture<Void> journalDelete(Long id, Player previous) {
+        if (journal == null || !journal.isStarted()) {
+            return WRITTEN;
+        }
+        return journal.appendDelete(id).whenComplete((written, failure) -> {
+            if (failure != null) {
+                revert(id, null, previous);
+            }
+        });
+    }
+
+    private void revert(Long id, Player failed, Player previous) {
+        Lock lock = writeLocks.forId(id);
+        lock.lock();
+        try {
+            if (indexedPlayers.get(id) != failed) {
+                return;
+            }
+            if (failed != null) {
+                indexes.forEach(index -> index.remove(failed));
+            }
+            if (previous != null) {
+                Player restored = previous.copy();
+                indexes.forEach(index -> index.add(previous));
+                indexedPlayers.put(id, previous);
+                snapshot.updateAndGet(current -> current.with(restored));
+            } else {
+                indexedPlayers.remove(id);
+                snapshot.updateAndGet(current -> current.without(id));
+            }
+            log.warn("Reverted player {} after a failed journal write", id);
+        } finally {
+            lock.unlock();
+        }
+        publishChanges(List.of(id));
+    }
+
+    private <T> T awaitDurability(CompletableFuture<T> written) {
+        try {
+            return written.join();
+        } catch (CompletionException e) {
+            throw new RuntimeException("Unable to persist player data", e.getCause());
+        }
+    }
+
+    private void publishChanges(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        version.incrementAndGet();
+        if (eventPublisher != null) {
+            ids.forEach(id -> eventPublisher.publishEvent(new PlayerChangedEvent(id)));
+        }
+    }
+}
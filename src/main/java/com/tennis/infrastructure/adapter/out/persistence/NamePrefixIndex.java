@@ -0,0 +1,220 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerName;
+import com.tennis.domain.port.out.PlayerRepository;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trie over the name tokens of {@link PlayerName#tokens(Player)}. Every node keeps the best ranked
+ * players of its subtree, so a prefix lookup only walks the prefix and never scans the players.
+ */
+class NamePrefixIndex implements PlayerIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private int nodes = 1;
+
+    @Override
+    public void add(Player player) {
+        add(player.getId(), player.hasData() ? player.getData().getRank() : null,
+                player.getFirstname(), player.getLastname(), player.getShortname());
+    }
+
+    @Override
+    public void remove(Player player) {
+        remove(player.getId(), player.hasData() ? player.getData().getRank() : null,
+                player.getFirstname(), player.getLastname(), player.getShortname());
+    }
+
+    void add(long id, Integer rank, String firstname, String lastname, String shortname) {
+        NameKey key = new NameKey(rank != null ? rank : Integer.MAX_VALUE, id);
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            for (String token : PlayerName.tokens(firstname, lastname, shortname)) {
+                Node node = root;
+                for (int i = 0; i < token.length(); i++) {
+                    node = childOrCreate(node, token.charAt(i));
+                    node.offer(key);
+                }
+                node.terminal.add(key);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void remove(long id, Integer rank, String firstname, String lastname, String shortname) {
+        NameKey key = new NameKey(rank != null ? rank : Integer.MAX_VALUE, id);
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            for (String token : PlayerName.tokens(firstname, lastname, shortname)) {
+                Node[] path = path(token);
+                if (path == null || !path[token.length()].terminal.remove(key)) {
+                    continue;
+                }
+                for (int depth = token.length(); depth > 0; depth--) {
+                    Node node = path[depth];
+                    node.evict(key);
+                    if (node.top.isEmpty()) {
+                        nodes -= path[depth - 1].removeChild(token.charAt(depth - 1));
+                    }
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return nodes;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    List<Long> prefix(String prefix, int limit) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            if (node == null || node == root) {
+                return List.of();
+            }
+            return node.top.stream()
+                    .limit(limit)
+                    .map(NameKey::id)
+                    .toList();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private Node childOrCreate(Node node, char label) {
+        Node child = node.child(label);
+        if (child == null) {
+            child = node.addChild(label);
+            nodes++;
+        }
+        return child;
+    }
+
+    private Node[] path(String token) {
+        Node[] path = new Node[token.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < token.length(); i++) {
+            path[i + 1] = path[i].child(token.charAt(i));
+            if (path[i + 1] == null) {
+                return null;
+            }
+        }
+        return path;
+    }
+
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private final NavigableSet<NameKey> terminal = new TreeSet<>();
+        private final NavigableSet<NameKey> top = new TreeSet<>();
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node addChild(char label) {
+            int insertion = -Arrays.binarySearch(labels, label) - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            System.arraycopy(labels, insertion, newLabels, insertion + 1, labels.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+            Node child = new Node();
+            newLabels[insertion] = label;
+            newChildren[insertion] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        int removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return 0;
+            }
+            int removed = children[index].subtreeSize();
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels.length > 0 ? newLabels : NO_LABELS;
+            children = newChildren.length > 0 ? newChildren : NO_CHILDREN;
+            return removed;
+        }
+
+        int subtreeSize() {
+            int size = 1;
+            for (Node child : children) {
+                size += child.subtreeSize();
+            }
+            return size;
+        }
+
+        void offer(NameKey key) {
+            top.add(key);
+            if (top.size() > PlayerRepository.MAX_SUGGESTIONS) {
+                top.pollLast();
+            }
+        }
+
+        void evict(NameKey key) {
+            boolean wasFull = top.size() == PlayerRepository.MAX_SUGGESTIONS;
+            if (!top.remove(key) || !wasFull) {
+                return;
+            }
+            offerAll(terminal);
+            for (Node child : children) {
+                offerAll(child.top);
+            }
+        }
+
+        private void offerAll(NavigableSet<NameKey> keys) {
+            Iterator<NameKey> iterator = keys.iterator();
+            for (int i = 0; i < PlayerRepository.MAX_SUGGESTIONS && iterator.hasNext(); i++) {
+                offer(iterator.next());
+            }
+        }
+    }
+
+    private record NameKey(int rank, long id) implements Comparable<NameKey> {
+
+        @Override
+        public int compareTo(NameKey other) {
+            int byRank = Integer.compare(rank, other.rank);
+            return byRank != 0 ? byRank : Long.compare(id, other.id);
+        }
+    }
+}
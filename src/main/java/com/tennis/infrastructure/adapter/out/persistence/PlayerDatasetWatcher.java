@@ -0,0 +1,69 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Polls an external dataset file and hands it over for reloading once its size or modification time
+ * changed. A reload that fails, for instance on a file still being written, is retried on the next poll.
+ */
+@Component
+@ConditionalOnProperty(prefix = "tennis.persistence.watch", name = "enabled", havingValue = "true")
+@Slf4j
+public class PlayerDatasetWatcher {
+
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+    private volatile long fingerprint;
+
+    public PlayerDatasetWatcher(@Value("${tennis.persistence.watch.interval:5s}") Duration interval) {
+        this.interval = interval;
+    }
+
+    public synchronized void start(Resource dataset, Consumer<Resource> onChange) {
+        if (!dataset.isFile()) {
+            log.warn("Dataset {} is not a file, hot reload is disabled", dataset.getDescription());
+            return;
+        }
+        fingerprint = PlayerJsonLoader.fingerprint(dataset);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "player-dataset-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> poll(dataset, onChange),
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Watching {} for changes every {}", dataset.getDescription(), interval);
+    }
+
+    void poll(Resource dataset, Consumer<Resource> onChange) {
+        long current = PlayerJsonLoader.fingerprint(dataset);
+        if (current == 0 || current == fingerprint) {
+            return;
+        }
+        try {
+            onChange.accept(dataset);
+            fingerprint = current;
+        } catch (RuntimeException e) {
+            log.warn("Unable to reload {}, keeping the current players: {}", dataset.getDescription(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
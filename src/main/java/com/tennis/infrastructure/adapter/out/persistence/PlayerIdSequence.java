@@ -0,0 +1,35 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic player id sequence. Every stored id pushes it forward, so ids seen while loading the dataset
+ * or replaying the journal are never handed out again, even once the player has been deleted. The journal
+ * snapshot records {@link #last()} so that ids of players deleted before a compaction stay retired.
+ */
+final class PlayerIdSequence {
+
+    private final AtomicLong last = new AtomicLong();
+
+    long next() {
+        return last.incrementAndGet();
+    }
+
+    long reserve(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Cannot reserve a negative number of ids: " + count);
+        }
+        return last.getAndAdd(count) + 1;
+    }
+
+    long last() {
+        return last.get();
+    }
+
+    void observe(long id) {
+        long current = last.get();
+        while (id > current && !last.compareAndSet(current, id)) {
+            current = last.get();
+        }
+    }
+}
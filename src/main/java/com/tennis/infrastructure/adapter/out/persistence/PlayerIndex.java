@@ -0,0 +1,9 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.tennis.domain.model.Player;
+
+interface PlayerIndex {
+    void add(Player player);
+    void remove(Player player);
+    int size();
+}
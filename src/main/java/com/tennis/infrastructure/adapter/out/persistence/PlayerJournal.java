@@ -0,0 +1,423 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.tennis.domain.model.Player;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+@Component
+@ConditionalOnProperty(prefix = "tennis.persistence.journal", name = "enabled", havingValue = "true")
+@Slf4j
+public class PlayerJournal {
+
+    static final String SNAPSHOT_FILE = "players.snapshot";
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+    private static final int MAX_BATCH_SIZE = 4096;
+    private static final String SEGMENT_PREFIX = "players-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final Duration compactionInterval;
+    private final BlockingQueue<PendingWrite> pendingWrites = new LinkedBlockingQueue<>();
+    private final AtomicLong writesSinceCompaction = new AtomicLong();
+    private final AtomicLong groupCommits = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile long generation;
+    private FileChannel segment;
+    private long committedPosition;
+    private boolean segmentBroken;
+    private Thread writer;
+    private ScheduledExecutorService compactionScheduler;
+    private Supplier<Collection<Player>> currentPlayers;
+    private LongSupplier lastId;
+
+    public PlayerJournal(@Value("${tennis.persistence.journal.directory:data}") Path directory,
+                         @Value("${tennis.persistence.journal.compaction-interval:10m}") Duration compactionInterval) {
+        this.directory = directory;
+        this.compactionInterval = compactionInterval;
+    }
+
+    Path snapshotPath() {
+        return directory.resolve(SNAPSHOT_FILE);
+    }
+
+    public boolean loadSnapshot(Consumer<Player> onPut, LongConsumer onLastId) {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(snapshot)) {
+            return false;
+        }
+
+        try {
+            PlayerSnapshotFile.Header header = PlayerSnapshotFile.read(snapshot, onPut);
+            generation = header.journalGeneration();
+            onLastId.accept(header.lastId());
+            log.info("Loaded {} players from the snapshot {}", header.playerCount(), snapshot);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load the snapshot " + snapshot, e);
+        }
+    }
+
+    public void replay(Consumer<Player> onPut, Consumer<Long> onDelete) {
+        int count = 0;
+        for (Path segmentFile : listSegments()) {
+            if (generationOf(segmentFile) < generation) {
+                continue;
+            }
+            count += replaySegment(segmentFile, onPut, onDelete);
+        }
+        log.info("Replayed {} journal records from {}", count, directory);
+    }
+
+    public synchronized void start(Supplier<Collection<Player>> currentPlayers, LongSupplier lastId) {
+        this.currentPlayers = currentPlayers;
+        this.lastId = lastId;
+        try {
+            Files.createDirectories(directory);
+            generation = listSegments().stream()
+                    .mapToLong(PlayerJournal::generationOf)
+                    .max()
+                    .orElse(generation - 1) + 1;
+            segment = openSegment(generation);
+            committedPosition = segment.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open the journal in " + directory, e);
+        }
+
+        running = true;
+        writer = new Thread(this::writeLoop, "player-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+
+        compactionScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "player-journal-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = compactionInterval.toMillis();
+        compactionScheduler.scheduleWithFixedDelay(this::compactIfNeeded,
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Journal started in {} (generation {})", directory, generation);
+    }
+
+    public boolean isStarted() {
+        return running;
+    }
+
+    public CompletableFuture<Void> appendPut(Player player) {
+        return append(PUT, PlayerRecordCodec.encode(player));
+    }
+
+    public CompletableFuture<Void> appendDelete(Long id) {
+        return append(DELETE, ByteBuffer.allocate(Long.BYTES).putLong(id).array());
+    }
+
+    public synchronized void compact() {
+        long firstUncoveredGeneration = rotate();
+
+        try {
+            PlayerSnapshotFile.Header header = PlayerSnapshotFile.write(directory.resolve(SNAPSHOT_FILE),
+                    firstUncoveredGeneration, 0, lastId.getAsLong(), currentPlayers.get());
+
+            for (Path segmentFile : listSegments()) {
+                if (generationOf(segmentFile) < firstUncoveredGeneration) {
+                    Files.delete(segmentFile);
+                }
+            }
+            log.info("Journal compacted into a snapshot of {} players", header.playerCount());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to compact the journal in " + directory, e);
+        }
+    }
+
+    long groupCommits() {
+        return groupCommits.get();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        compactionScheduler.shutdownNow();
+        try {
+            writer.join();
+            segment.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Unable to close the journal segment: {}", e.getMessage());
+        }
+        failPendingWrites(new IllegalStateException("The journal is closed"));
+    }
+
+    private CompletableFuture<Void> append(byte type, byte[] payload) {
+        CompletableFuture<Void> written = enqueue(new PendingWrite(frame(type, payload), new CompletableFuture<>()));
+        writesSinceCompaction.incrementAndGet();
+        return written;
+    }
+
+    private long rotate() {
+        enqueue(new PendingWrite(null, new CompletableFuture<>())).join();
+        return generation;
+    }
+
+    private CompletableFuture<Void> enqueue(PendingWrite write) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("The journal is closed"));
+        }
+        pendingWrites.add(write);
+        if (!running) {
+            failPendingWrites(new IllegalStateException("The journal is closed"));
+        }
+        return write.written();
+    }
+
+    private void failPendingWrites(Exception cause) {
+        List<PendingWrite> abandoned = new ArrayList<>();
+        pendingWrites.drainTo(abandoned);
+        failInReverseOrder(abandoned, cause);
+    }
+
+    private static void failInReverseOrder(List<PendingWrite> writes, Exception cause) {
+        for (int i = writes.size() - 1; i >= 0; i--) {
+            writes.get(i).written().completeExceptionally(cause);
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (writesSinceCompaction.getAndSet(0) == 0) {
+            return;
+        }
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            log.error("Journal compaction failed", e);
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingWrite> batch = new ArrayList<>();
+        while (running || !pendingWrites.isEmpty()) {
+            try {
+                PendingWrite first = pendingWrites.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pendingWrites.drainTo(batch, MAX_BATCH_SIZE - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                IllegalStateException cause = new IllegalStateException("The journal writer was interrupted");
+                failPendingWrites(cause);
+                failInReverseOrder(batch, cause);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        List<PendingWrite> uncommitted = new ArrayList<>(batch.size());
+        try {
+            if (segmentBroken) {
+                rotateSegment();
+            }
+            for (PendingWrite write : batch) {
+                if (write.record() == null) {
+                    flush(uncommitted);
+                    uncommitted.add(write);
+                    rotateSegment();
+                    uncommitted.remove(write);
+                    write.written().complete(null);
+                } else {
+                    uncommitted.add(write);
+                    ByteBuffer record = write.record();
+                    while (record.hasRemaining()) {
+                        segment.write(record);
+                    }
+                }
+            }
+            flush(uncommitted);
+        } catch (IOException e) {
+            log.error("Unable to write {} journal records", uncommitted.size(), e);
+            discardUncommitted();
+            failInReverseOrder(uncommitted, e);
+        }
+    }
+
+    private void flush(List<PendingWrite> uncommitted) throws IOException {
+        segment.force(false);
+        committedPosition = segment.size();
+        groupCommits.incrementAndGet();
+        uncommitted.forEach(write -> write.written().complete(null));
+        uncommitted.clear();
+    }
+
+    private void rotateSegment() throws IOException {
+        FileChannel next = openSegment(generation + 1);
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Unable to close the journal segment: {}", e.getMessage());
+        }
+        segment = next;
+        generation++;
+        committedPosition = segment.size();
+        segmentBroken = false;
+    }
+
+    private void discardUncommitted() {
+        try {
+            segment.truncate(committedPosition);
+            segmentBroken = false;
+        } catch (IOException e) {
+            log.error("Unable to truncate the journal segment, the next write will open a new one", e);
+            segmentBroken = true;
+        }
+    }
+
+    private int replaySegment(Path segmentFile, Consumer<Player> onPut, Consumer<Long> onDelete) {
+        int count = 0;
+        long validLength = 0;
+        try (DataInputStream in = openRecords(segmentFile)) {
+            Record record;
+            while ((record = readRecord(in)) != null) {
+                if (record.type() == PUT) {
+                    onPut.accept(PlayerRecordCodec.decode(record.payload()));
+                } else if (record.type() == DELETE) {
+                    onDelete.accept(record.payload().getLong());
+                }
+                validLength += RECORD_HEADER_SIZE + record.payload().capacity();
+                count++;
+            }
+        } catch (IOException e) {
+            log.warn("Truncating the journal segment {} after {} valid records: {}", segmentFile, count, e.getMessage());
+            truncate(segmentFile, validLength);
+        }
+        return count;
+    }
+
+    private static ByteBuffer frame(byte type, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(type);
+        crc.update(payload);
+
+        return ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(type)
+                .put(payload)
+                .flip();
+    }
+
+    private static Record readRecord(DataInputStream in) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        if (length < 0) {
+            throw new IOException("Invalid record length " + length);
+        }
+        int checksum = in.readInt();
+        byte type = in.readByte();
+
+        byte[] payload = in.readNBytes(length);
+        if (payload.length != length) {
+            throw new EOFException("Truncated record");
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(type);
+        crc.update(payload);
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Checksum mismatch");
+        }
+        return new Record(type, ByteBuffer.wrap(payload));
+    }
+
+    private static DataInputStream openRecords(Path file) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+    }
+
+    private FileChannel openSegment(long segmentGeneration) throws IOException {
+        return FileChannel.open(directory.resolve(segmentName(segmentGeneration)),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> listSegments() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to list the journal segments in " + directory, e);
+        }
+    }
+
+    private static void truncate(Path file, long length) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to truncate the journal segment " + file, e);
+        }
+    }
+
+    private static String segmentName(long segmentGeneration) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, segmentGeneration, SEGMENT_SUFFIX);
+    }
+
+    private static long generationOf(Path segmentFile) {
+        String name = segmentFile.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private record PendingWrite(ByteBuffer record, CompletableFuture<Void> written) {
+    }
+
+    private record Record(byte type, ByteBuffer payload) {
+    }
+}
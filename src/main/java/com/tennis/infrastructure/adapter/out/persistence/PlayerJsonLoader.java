@@ -0,0 +1,219 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.tennis.domain.model.Player;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Walks the {@code players} array token by token and hands fixed-size chunks of raw records to a worker
+ * pool for binding and validation. Bound chunks are consumed in file order on the calling thread, and at
+ * most two chunks per worker are in flight, so the heap used does not depend on the size of the file.
+ */
+@Slf4j
+class PlayerJsonLoader {
+
+    static final int CHUNK_SIZE = 1024;
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private final ObjectMapper objectMapper;
+    private final int workers;
+    private final int chunkSize;
+
+    PlayerJsonLoader(ObjectMapper objectMapper) {
+        this(objectMapper, Runtime.getRuntime().availableProcessors(), CHUNK_SIZE);
+    }
+
+    PlayerJsonLoader(ObjectMapper objectMapper, int workers, int chunkSize) {
+        this.objectMapper = objectMapper;
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+    }
+
+    PlayerLoadReport load(Resource playersResource, Consumer<Player> onPlayer) {
+        try {
+            if (playersResource == null || !playersResource.exists()) {
+                log.warn("File headtohead.json not find, the repository will be empty at start");
+                return PlayerLoadReport.EMPTY;
+            }
+
+            PlayerLoadReport report = stream(playersResource, onPlayer);
+            log.info("Loading {} players from the JSON file in {} ms ({} players/s), {} rejected",
+                    report.loaded(), report.elapsedNanos() / 1_000_000, Math.round(report.playersPerSecond()), report.rejected());
+            report.errors().forEach(error -> log.warn("Rejected player {}", error));
+            return report;
+        } catch (IOException e) {
+            log.error("Error loading players", e);
+            throw new RuntimeException("Unable to load player data", e);
+        }
+    }
+
+    PlayerLoadReport stream(Resource playersResource, Consumer<Player> onPlayer) throws IOException {
+        long start = System.nanoTime();
+        Progress progress = new Progress(onPlayer);
+        Deque<Future<List<Binding>>> inFlight = new ArrayDeque<>();
+        ExecutorService pool = newPool();
+        try (InputStream input = playersResource.getInputStream();
+             JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object in " + playersResource.getDescription());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!"players".equals(field) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                List<TokenBuffer> chunk = new ArrayList<>(chunkSize);
+                long index = 0;
+                for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken(), index++) {
+                    if (token == null) {
+                        throw new IOException("Truncated JSON in " + playersResource.getDescription());
+                    }
+                    TokenBuffer record = new TokenBuffer(parser);
+                    record.copyCurrentStructure(parser);
+                    chunk.add(record);
+                    if (chunk.size() == chunkSize) {
+                        submit(pool, inFlight, chunk, index - chunk.size() + 1, progress);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+                submit(pool, inFlight, chunk, index - chunk.size(), progress);
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT) {
+                throw new IOException("Truncated JSON in " + playersResource.getDescription());
+            }
+            while (!inFlight.isEmpty()) {
+                progress.accept(await(inFlight.poll()));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return new PlayerLoadReport(progress.loaded, progress.rejected, progress.errors, System.nanoTime() - start);
+    }
+
+    static long fingerprint(Resource playersResource) {
+        try {
+            return playersResource != null && playersResource.exists()
+                    ? 31 * playersResource.contentLength() + playersResource.lastModified()
+                    : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private void submit(ExecutorService pool, Deque<Future<List<Binding>>> inFlight,
+                        List<TokenBuffer> chunk, long firstIndex, Progress progress) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        if (inFlight.size() >= 2 * workers) {
+            progress.accept(await(inFlight.poll()));
+        }
+        inFlight.add(pool.submit(() -> bind(chunk, firstIndex)));
+    }
+
+    private List<Binding> bind(List<TokenBuffer> chunk, long firstIndex) {
+        List<Binding> bindings = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            String position = "players[" + (firstIndex + i) + "]";
+            try (JsonParser record = chunk.get(i).asParser(objectMapper)) {
+                Player player = objectMapper.readValue(record, Player.class);
+                String violation = validate(player);
+                bindings.add(violation == null
+                        ? new Binding(player, null)
+                        : new Binding(null, position + ": " + violation));
+            } catch (JsonProcessingException e) {
+                bindings.add(new Binding(null, position + ": " + e.getOriginalMessage()));
+            } catch (IOException e) {
+                bindings.add(new Binding(null, position + ": " + e.getMessage()));
+            }
+        }
+        return bindings;
+    }
+
+    private static String validate(Player player) {
+        if (player == null) {
+            return "expected a player object";
+        }
+        if (player.getId() == null || player.getId() <= 0) {
+            return "a positive id is required";
+        }
+        if (player.getFirstname() == null || player.getFirstname().isBlank()
+                || player.getLastname() == null || player.getLastname().isBlank()) {
+            return "first name and last name are required";
+        }
+        return null;
+    }
+
+    private static List<Binding> await(Future<List<Binding>> bound) throws IOException {
+        try {
+            return bound.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading players");
+        } catch (ExecutionException e) {
+            throw new IOException("Unable to bind players", e.getCause());
+        }
+    }
+
+    private ExecutorService newPool() {
+        int pool = POOL_COUNT.incrementAndGet();
+        AtomicInteger threads = new AtomicInteger();
+        return Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "player-json-loader-" + pool + "-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record Binding(Player player, String error) {
+    }
+
+    private static final class Progress {
+        private final Consumer<Player> onPlayer;
+        private final List<String> errors = new ArrayList<>();
+        private long loaded;
+        private long rejected;
+
+        Progress(Consumer<Player> onPlayer) {
+            this.onPlayer = onPlayer;
+        }
+
+        void accept(List<Binding> bindings) {
+            for (Binding binding : bindings) {
+                if (binding.player() != null) {
+                    onPlayer.accept(binding.player());
+                    loaded++;
+                } else {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(binding.error());
+                    }
+                }
+            }
+        }
+    }
+}
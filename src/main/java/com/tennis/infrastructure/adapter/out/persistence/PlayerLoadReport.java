@@ -0,0 +1,16 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import java.util.List;
+
+/**
+ * Outcome of a dataset load. Only the first errors are kept, so a feed full of bad records
+ * cannot grow the report without bound; {@code rejected} still counts all of them.
+ */
+record PlayerLoadReport(long loaded, long rejected, List<String> errors, long elapsedNanos) {
+
+    static final PlayerLoadReport EMPTY = new PlayerLoadReport(0, 0, List.of(), 0);
+
+    double playersPerSecond() {
+        return elapsedNanos > 0 ? loaded * 1_000_000_000.0 / elapsedNanos : 0;
+    }
+}
@@ -0,0 +1,134 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.tennis.domain.model.Country;
+import com.tennis.domain.model.MatchHistory;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+final class PlayerRecordCodec {
+
+    private static final int NULL_LENGTH = -1;
+
+    private PlayerRecordCodec() {
+    }
+
+    static byte[] encode(Player player) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(player.getId());
+            writeString(out, player.getFirstname());
+            writeString(out, player.getLastname());
+            writeString(out, player.getShortname());
+            writeString(out, player.getSex());
+            writeString(out, player.getPicture());
+
+            Country country = player.getCountry();
+            out.writeBoolean(country != null);
+            if (country != null) {
+                writeString(out, country.getCode());
+                writeString(out, country.getPicture());
+            }
+
+            PlayerData data = player.getData();
+            out.writeBoolean(data != null);
+            if (data != null) {
+                writeInteger(out, data.getRank());
+                writeInteger(out, data.getPoints());
+                writeInteger(out, data.getWeight());
+                writeInteger(out, data.getHeight());
+                writeInteger(out, data.getAge());
+                writeHistory(out, data.getHistory());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Player decode(ByteBuffer buffer) {
+        Player player = Player.builder()
+                .id(buffer.getLong())
+                .firstname(readString(buffer))
+                .lastname(readString(buffer))
+                .shortname(readString(buffer))
+                .sex(readString(buffer))
+                .picture(readString(buffer))
+                .build();
+
+        if (buffer.get() != 0) {
+            player.setCountry(Country.builder()
+                    .code(readString(buffer))
+                    .picture(readString(buffer))
+                    .build());
+        }
+
+        if (buffer.get() != 0) {
+            player.setData(PlayerData.builder()
+                    .rank(readInteger(buffer))
+                    .points(readInteger(buffer))
+                    .weight(readInteger(buffer))
+                    .height(readInteger(buffer))
+                    .age(readInteger(buffer))
+                    .history(readHistory(buffer))
+                    .build());
+        }
+        return player;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        buffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(ByteBuffer buffer) {
+        return buffer.get() != 0 ? buffer.getInt() : null;
+    }
+
+    private static void writeHistory(DataOutputStream out, MatchHistory history) throws IOException {
+        if (history == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(history.getLength());
+        out.writeLong(history.getResults());
+        out.writeByte(history.getWindow());
+    }
+
+    private static MatchHistory readHistory(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        long results = buffer.getLong();
+        return MatchHistory.fromBits(results, length, buffer.get());
+    }
+}
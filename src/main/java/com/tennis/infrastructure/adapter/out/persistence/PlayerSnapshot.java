@@ -0,0 +1,252 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.tennis.domain.model.Player;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable point-in-time view of the players, as a persistent sparse radix trie keyed by id.
+ * A write copies only the nodes on the path to its id and shares every other node with the
+ * previous version, so readers iterate a published snapshot without copying or locking.
+ */
+final class PlayerSnapshot {
+
+    static final PlayerSnapshot EMPTY = new PlayerSnapshot(Node.EMPTY, 0);
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private final Node root;
+    private final int shift;
+
+    private PlayerSnapshot(Node root, int shift) {
+        this.root = root;
+        this.shift = shift;
+    }
+
+    int size() {
+        return root.size;
+    }
+
+    Player get(long id) {
+        if (id < 0 || !covers(id, shift)) {
+            return null;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = node.child(indexOf(id, level));
+            if (node == null) {
+                return null;
+            }
+        }
+        return node.player(indexOf(id, 0));
+    }
+
+    PlayerSnapshot with(Player player) {
+        long id = player.getId();
+        if (id < 0) {
+            throw new IllegalArgumentException("Player id must be positive: " + id);
+        }
+        Node grown = root;
+        int grownShift = shift;
+        while (!covers(id, grownShift)) {
+            grown = grown.size > 0 ? new Node(1, new Object[]{grown}, grown.size) : Node.EMPTY;
+            grownShift += BITS;
+        }
+        return new PlayerSnapshot(grown.with(grownShift, id, player), grownShift);
+    }
+
+    PlayerSnapshot without(long id) {
+        if (id < 0 || !covers(id, shift)) {
+            return this;
+        }
+        Node shrunk = root.without(shift, id);
+        return shrunk != root ? new PlayerSnapshot(shrunk, shift) : this;
+    }
+
+    List<Player> players() {
+        return new Players();
+    }
+
+    private static boolean covers(long id, int shift) {
+        return shift + BITS >= Long.SIZE - 1 || id >>> (shift + BITS) == 0;
+    }
+
+    private static int indexOf(long id, int level) {
+        return (int) (id >>> level) & MASK;
+    }
+
+    private final class Players extends AbstractList<Player> {
+
+        @Override
+        public Player get(int index) {
+            if (index < 0 || index >= root.size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return root.nth(shift, index);
+        }
+
+        @Override
+        public int size() {
+            return root.size;
+        }
+
+        @Override
+        public Iterator<Player> iterator() {
+            return new PlayerIterator(root, shift);
+        }
+    }
+
+    private static final class PlayerIterator implements Iterator<Player> {
+        private final Node[] nodes;
+        private final int[] positions;
+        private int depth;
+
+        PlayerIterator(Node root, int shift) {
+            nodes = new Node[shift / BITS + 1];
+            positions = new int[nodes.length];
+            nodes[0] = root;
+            descend();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth >= 0;
+        }
+
+        @Override
+        public Player next() {
+            if (depth < 0) {
+                throw new NoSuchElementException();
+            }
+            int leaf = nodes.length - 1;
+            Player player = (Player) nodes[leaf].children[positions[leaf]++];
+            descend();
+            return player;
+        }
+
+        private void descend() {
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                if (positions[depth] >= node.children.length) {
+                    depth--;
+                    if (depth >= 0) {
+                        positions[depth]++;
+                    }
+                } else if (depth == nodes.length - 1) {
+                    return;
+                } else {
+                    nodes[depth + 1] = (Node) node.children[positions[depth]];
+                    positions[++depth] = 0;
+                }
+            }
+        }
+    }
+
+    private static final class Node {
+        static final Node EMPTY = new Node(0, new Object[0], 0);
+
+        private final int bitmap;
+        private final Object[] children;
+        private final int size;
+
+        Node(int bitmap, Object[] children, int size) {
+            this.bitmap = bitmap;
+            this.children = children;
+            this.size = size;
+        }
+
+        Node child(int index) {
+            return (Node) entry(index);
+        }
+
+        Player player(int index) {
+            return (Player) entry(index);
+        }
+
+        Node with(int shift, long id, Player player) {
+            int index = indexOf(id, shift);
+            int bit = 1 << index;
+            int position = Integer.bitCount(bitmap & (bit - 1));
+            boolean present = (bitmap & bit) != 0;
+
+            if (shift == 0) {
+                return present
+                        ? new Node(bitmap, replaced(position, player), size)
+                        : new Node(bitmap | bit, inserted(position, player), size + 1);
+            }
+
+            Node child = present ? (Node) children[position] : EMPTY;
+            Node updated = child.with(shift - BITS, id, player);
+            int newSize = size - child.size + updated.size;
+            return present
+                    ? new Node(bitmap, replaced(position, updated), newSize)
+                    : new Node(bitmap | bit, inserted(position, updated), newSize);
+        }
+
+        Node without(int shift, long id) {
+            int index = indexOf(id, shift);
+            int bit = 1 << index;
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int position = Integer.bitCount(bitmap & (bit - 1));
+
+            if (shift == 0) {
+                return new Node(bitmap & ~bit, removed(position), size - 1);
+            }
+
+            Node child = (Node) children[position];
+            Node updated = child.without(shift - BITS, id);
+            if (updated == child) {
+                return this;
+            }
+            return updated.size > 0
+                    ? new Node(bitmap, replaced(position, updated), size - 1)
+                    : new Node(bitmap & ~bit, removed(position), size - 1);
+        }
+
+        Player nth(int shift, int index) {
+            if (shift == 0) {
+                return (Player) children[index];
+            }
+            for (Object entry : children) {
+                Node child = (Node) entry;
+                if (index < child.size) {
+                    return child.nth(shift - BITS, index);
+                }
+                index -= child.size;
+            }
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        private Object entry(int index) {
+            int bit = 1 << index;
+            return (bitmap & bit) != 0 ? children[Integer.bitCount(bitmap & (bit - 1))] : null;
+        }
+
+        private Object[] replaced(int position, Object entry) {
+            Object[] copy = children.clone();
+            copy[position] = entry;
+            return copy;
+        }
+
+        private Object[] inserted(int position, Object entry) {
+            Object[] copy = new Object[children.length + 1];
+            System.arraycopy(children, 0, copy, 0, position);
+            copy[position] = entry;
+            System.arraycopy(children, position, copy, position + 1, children.length - position);
+            return copy;
+        }
+
+        private Object[] removed(int position) {
+            Object[] copy = Arrays.copyOf(children, children.length - 1);
+            System.arraycopy(children, position + 1, copy, position, children.length - position - 1);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.tennis.domain.model.Player;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+final class PlayerSnapshotFile {
+
+    private static final int MAGIC = 0x544E5350;
+    private static final int VERSION = 2;
+    private static final int LEGACY_VERSION = 1;
+    private static final int HEADER_SIZE = 40;
+    private static final int LEGACY_HEADER_SIZE = 32;
+    private static final long MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
+    private PlayerSnapshotFile() {
+    }
+
+    record Header(long journalGeneration, long sourceFingerprint, long lastId, int playerCount) {
+    }
+
+    static Header write(Path file, long journalGeneration, long sourceFingerprint, long lastId,
+                        Collection<Player> players) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        CRC32C crc = new CRC32C();
+        int count = 0;
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.position(HEADER_SIZE);
+            DataOutputStream body = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16), crc));
+            for (Player player : players) {
+                byte[] record = PlayerRecordCodec.encode(player);
+                body.writeInt(record.length);
+                body.write(record);
+                count++;
+            }
+            body.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putLong(journalGeneration)
+                    .putLong(sourceFingerprint)
+                    .putLong(lastId)
+                    .putInt(count)
+                    .putInt((int) crc.getValue())
+                    .flip();
+            channel.write(header, 0);
+            channel.force(true);
+        }
+
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return new Header(journalGeneration, sourceFingerprint, lastId, count);
+    }
+
+    static Header readHeader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return parseHeader(channel).header();
+        }
+    }
+
+    static Header read(Path file, Consumer<Player> onPlayer) throws IOException {
+        return read(file, onPlayer, MAX_WINDOW_SIZE);
+    }
+
+    static Header read(Path file, Consumer<Player> onPlayer, long windowSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ParsedHeader parsed = parseHeader(channel);
+            long size = channel.size();
+            verifyChecksum(channel, size, parsed.bodyStart(), parsed.checksum(), windowSize);
+
+            MappedByteBuffer window = null;
+            long windowStart = parsed.bodyStart();
+            long position = parsed.bodyStart();
+            for (int i = 0; i < parsed.header().playerCount(); i++) {
+                if (window == null || position + Integer.BYTES > windowStart + window.limit()) {
+                    windowStart = position;
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(size - windowStart, windowSize));
+                }
+                int length = window.getInt((int) (position - windowStart));
+                if (position + Integer.BYTES + length > windowStart + window.limit()) {
+                    windowStart = position;
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(size - windowStart, windowSize));
+                }
+                onPlayer.accept(PlayerRecordCodec.decode(
+                        window.slice((int) (position - windowStart) + Integer.BYTES, length)));
+                position += Integer.BYTES + length;
+            }
+            return parsed.header();
+        }
+    }
+
+    private static ParsedHeader parseHeader(FileChannel channel) throws IOException {
+        if (channel.size() < LEGACY_HEADER_SIZE) {
+            throw new IOException("Snapshot too small");
+        }
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, LEGACY_HEADER_SIZE);
+        int magic = header.getInt();
+        int version = header.getInt();
+        if (magic != MAGIC || (version != VERSION && version != LEGACY_VERSION)) {
+            throw new IOException("Unsupported snapshot format");
+        }
+        if (version == LEGACY_VERSION) {
+            return new ParsedHeader(new Header(header.getLong(), header.getLong(), 0, header.getInt()),
+                    header.getInt(), LEGACY_HEADER_SIZE);
+        }
+
+        if (channel.size() < HEADER_SIZE) {
+            throw new IOException("Snapshot too small");
+        }
+        header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).position(2 * Integer.BYTES);
+        return new ParsedHeader(new Header(header.getLong(), header.getLong(), header.getLong(), header.getInt()),
+                header.getInt(), HEADER_SIZE);
+    }
+
+    private static void verifyChecksum(FileChannel channel, long size, long bodyStart, int expected,
+                                       long windowSize) throws IOException {
+        CRC32C crc = new CRC32C();
+        for (long position = bodyStart; position < size; position += windowSize) {
+            crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, windowSize)));
+        }
+        if ((int) crc.getValue() != expected) {
+            throw new IOException("Snapshot checksum mismatch");
+        }
+    }
+
+    private record ParsedHeader(Header header, int checksum, long bodyStart) {
+    }
+}
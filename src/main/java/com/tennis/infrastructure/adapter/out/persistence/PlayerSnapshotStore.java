@@ -0,0 +1,61 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.tennis.domain.model.Player;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(prefix = "tennis.persistence.snapshot", name = "enabled", havingValue = "true")
+@Slf4j
+public class PlayerSnapshotStore {
+
+    private final Path path;
+
+    public PlayerSnapshotStore(@Value("${tennis.persistence.snapshot.path:data/dataset.snapshot}") Path path) {
+        this.path = path;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    public boolean load(long sourceFingerprint, Consumer<Player> onPlayer) {
+        if (!Files.exists(path)) {
+            log.info("No snapshot found in {}, loading players from JSON", path);
+            return false;
+        }
+
+        try {
+            if (PlayerSnapshotFile.readHeader(path).sourceFingerprint() != sourceFingerprint) {
+                log.info("The snapshot {} does not match the JSON file anymore, loading players from JSON", path);
+                return false;
+            }
+
+            long start = System.nanoTime();
+            PlayerSnapshotFile.Header header = PlayerSnapshotFile.read(path, onPlayer);
+            log.info("Loaded {} players from the snapshot {} in {} ms",
+                    header.playerCount(), path, (System.nanoTime() - start) / 1_000_000);
+            return true;
+        } catch (IOException e) {
+            log.warn("Unable to read the snapshot {}, loading players from JSON: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    public void write(long sourceFingerprint, Collection<Player> players) {
+        try {
+            PlayerSnapshotFile.Header header = PlayerSnapshotFile.write(path, 0, sourceFingerprint, 0, players);
+            log.info("Wrote a snapshot of {} players to {}", header.playerCount(), path);
+        } catch (IOException e) {
+            log.warn("Unable to write the snapshot {}: {}", path, e.getMessage());
+        }
+    }
+}
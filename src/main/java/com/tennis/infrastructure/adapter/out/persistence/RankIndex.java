@@ -0,0 +1,52 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.tennis.domain.model.Player;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+class RankIndex implements PlayerIndex {
+
+    private final ConcurrentNavigableMap<RankKey, Player> ranking = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void add(Player player) {
+        if (player.hasData()) {
+            ranking.put(RankKey.of(player), player);
+        }
+    }
+
+    @Override
+    public void remove(Player player) {
+        if (player.hasData()) {
+            ranking.remove(RankKey.of(player));
+        }
+    }
+
+    @Override
+    public int size() {
+        return ranking.size();
+    }
+
+    List<Player> page(int offset, int limit) {
+        return ranking.values().stream()
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    private record RankKey(int rank, long id) implements Comparable<RankKey> {
+
+        static RankKey of(Player player) {
+            Integer rank = player.getData().getRank();
+            return new RankKey(rank != null ? rank : Integer.MAX_VALUE, player.getId());
+        }
+
+        @Override
+        public int compareTo(RankKey other) {
+            int byRank = Integer.compare(rank, other.rank);
+            return byRank != 0 ? byRank : Long.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed set of locks picked by player id. Writes to the same player are serialized, and writes to players
+ * on other stripes do not wait on each other's lock. Consecutive ids land on consecutive stripes. The
+ * stripes only cover the per-player part of a write: every write still meets the others on the snapshot
+ * compare-and-set, the global country aggregate and the write locks of the search and name indexes, so
+ * concurrent writes scale until those shared steps saturate (see {@code PlayerWriteThroughputBenchmark}).
+ */
+final class StripedLock {
+
+    private final Lock[] stripes;
+    private final int mask;
+
+    StripedLock(int stripes) {
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    Lock forId(long id) {
+        return stripes[Long.hashCode(id) & mask];
+    }
+
+    void lockAll() {
+        for (Lock stripe : stripes) {
+            stripe.lock();
+        }
+    }
+
+    void unlockAll() {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.tennis.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@Slf4j
+public class VirtualThreadsConfiguration {
+
+    public VirtualThreadsConfiguration(Environment environment,
+                                       @Value("${spring.threads.virtual.enabled:false}") boolean requested) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Serving requests and async work on virtual threads");
+        } else if (requested) {
+            log.warn("Virtual threads require Java 21 or later (running on {}), falling back to platform threads",
+                    Runtime.version());
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.tennis.infrastructure.dataset;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.tennis.domain.model.Country;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerData;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic generator of {@code headtohead.json} compatible datasets.
+ * <p>
+ * Every player is derived from the seed and its index only, so the same seed always produces the same
+ * dataset, whatever the size or the consumer. Ranks are a unique pseudo-random permutation of
+ * {@code 1..count}; points, win rates and history lengths follow the rank, countries follow a Zipf
+ * distribution and heights / weights a normal distribution per sex.
+ */
+@Slf4j
+public class PlayerDatasetGenerator {
+
+    public enum Format {
+        JSON, NDJSON
+    }
+
+    private static final String PICTURE_BASE_URL = "https://tenisu.latelier.co/resources/";
+    private static final String[] COUNTRIES = {
+            "USA", "ESP", "FRA", "ITA", "GER", "ARG", "AUS", "GBR", "RUS", "CZE",
+            "SRB", "CAN", "JPN", "CHN", "SUI", "CRO", "POL", "BEL", "NED", "AUT",
+            "KAZ", "SWE", "GRE", "BRA", "CHI", "UKR", "ROU", "SVK", "POR", "NOR",
+            "DEN", "BUL", "HUN", "COL", "IND", "KOR", "TPE", "TUN", "RSA", "FIN"
+    };
+    private static final String[] MALE_FIRSTNAMES = {
+            "Novak", "Rafael", "Carlos", "Daniil", "Jannik", "Stefanos", "Andrey", "Holger", "Casper", "Alexander",
+            "Taylor", "Hubert", "Felix", "Tommy", "Frances", "Lorenzo", "Karen", "Cameron", "Grigor", "Ugo"
+    };
+    private static final String[] FEMALE_FIRSTNAMES = {
+            "Serena", "Venus", "Iga", "Aryna", "Coco", "Elena", "Jessica", "Ons", "Maria", "Marketa",
+            "Caroline", "Karolina", "Barbora", "Daria", "Madison", "Beatriz", "Belinda", "Petra", "Victoria", "Emma"
+    };
+    private static final String[] LASTNAME_SYLLABLES = {
+            "dal", "vic", "mur", "ras", "ner", "kov", "ber", "tin", "zel", "fer",
+            "lan", "mon", "sin", "par", "dju", "ric", "vel", "gar", "hal", "tsi"
+    };
+    private static final double[] COUNTRY_CUMULATIVE_WEIGHTS = zipfCumulativeWeights(COUNTRIES.length, 1.1);
+    private static final int MAX_HISTORY = 20;
+
+    private final long seed;
+
+    public PlayerDatasetGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public Stream<Player> players(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Player count must be positive");
+        }
+
+        RankPermutation ranks = new RankPermutation(count, seed);
+        return LongStream.range(0, count).mapToObj(index -> player(index, ranks.rankOf(index), count));
+    }
+
+    public List<Player> generate(int count) {
+        List<Player> players = new ArrayList<>(count);
+        players(count).forEach(players::add);
+        return players;
+    }
+
+    public void write(int count, Format format, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = new JsonFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null);
+            if (format == Format.JSON) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("players");
+            }
+
+            for (Player player : (Iterable<Player>) players(count)::iterator) {
+                writePlayer(generator, player);
+                if (format == Format.NDJSON) {
+                    generator.writeRaw('\n');
+                }
+            }
+
+            if (format == Format.JSON) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }
+    }
+
+    public void write(int count, Format format, Path path) throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            write(count, format, outputStream);
+        }
+    }
+
+    private Player player(long index, int rank, int count) {
+        SplittableRandom random = new SplittableRandom(mix(seed) ^ index);
+        boolean male = random.nextBoolean();
+        String firstname = pick(male ? MALE_FIRSTNAMES : FEMALE_FIRSTNAMES, random);
+        String lastname = lastname(random);
+        String country = COUNTRIES[countryIndex(random.nextDouble())];
+
+        int height = (int) clamp(Math.round(gaussian(random, male ? 185 : 172, male ? 7 : 6)), 150, 215);
+        double bmi = clamp(gaussian(random, male ? 22.8 : 21.2, 1.4), 17, 30);
+        int weight = (int) Math.round(bmi * height * height / 10_000.0) * 1000;
+        double percentile = count > 1 ? (rank - 1) / (double) (count - 1) : 0;
+
+        return Player.builder()
+                .id(index + 1)
+                .firstname(firstname)
+                .lastname(lastname)
+                .shortname(firstname.charAt(0) + "." + lastname.substring(0, 3).toUpperCase())
+                .sex(male ? "M" : "F")
+                .country(Country.builder()
+                        .code(country)
+                        .picture(PICTURE_BASE_URL + country + ".png")
+                        .build())
+                .picture(PICTURE_BASE_URL + lastname + ".png")
+                .data(PlayerData.builder()
+                        .rank(rank)
+                        .points((int) Math.max(1, Math.round(12_000 / Math.sqrt(rank))))
+                        .weight(weight)
+                        .height(height)
+                        .age((int) clamp(Math.round(gaussian(random, 26, 4)), 16, 42))
+                        .last(history(random, percentile))
+                        .build())
+                .build();
+    }
+
+    private static List<Integer> history(SplittableRandom random, double percentile) {
+        int length = (int) Math.round(5 + (MAX_HISTORY - 5) * (1 - percentile) * random.nextDouble());
+        double winProbability = 0.8 - 0.5 * percentile;
+        List<Integer> last = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            last.add(random.nextDouble() < winProbability ? 1 : 0);
+        }
+        return last;
+    }
+
+    private static String lastname(SplittableRandom random) {
+        int syllables = 2 + random.nextInt(2);
+        StringBuilder lastname = new StringBuilder();
+        for (int i = 0; i < syllables; i++) {
+            lastname.append(pick(LASTNAME_SYLLABLES, random));
+        }
+        lastname.setCharAt(0, Character.toUpperCase(lastname.charAt(0)));
+        return lastname.toString();
+    }
+
+    private static void writePlayer(JsonGenerator generator, Player player) throws IOException {
+        PlayerData data = player.getData();
+        generator.writeStartObject();
+        generator.writeNumberField("id", player.getId());
+        generator.writeStringField("firstname", player.getFirstname());
+        generator.writeStringField("lastname", player.getLastname());
+        generator.writeStringField("shortname", player.getShortname());
+        generator.writeStringField("sex", player.getSex());
+        generator.writeObjectFieldStart("country");
+        generator.writeStringField("picture", player.getCountry().getPicture());
+        generator.writeStringField("code", player.getCountry().getCode());
+        generator.writeEndObject();
+        generator.writeStringField("picture", player.getPicture());
+        generator.writeObjectFieldStart("data");
+        generator.writeNumberField("rank", data.getRank());
+        generator.writeNumberField("points", data.getPoints());
+        generator.writeNumberField("weight", data.getWeight());
+        generator.writeNumberField("height", data.getHeight());
+        generator.writeNumberField("age", data.getAge());
+        generator.writeArrayFieldStart("last");
+        for (Integer result : data.getLast()) {
+            generator.writeNumber(result);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private static int countryIndex(double value) {
+        for (int i = 0; i < COUNTRY_CUMULATIVE_WEIGHTS.length - 1; i++) {
+            if (value < COUNTRY_CUMULATIVE_WEIGHTS[i]) {
+                return i;
+            }
+        }
+        return COUNTRY_CUMULATIVE_WEIGHTS.length - 1;
+    }
+
+    private static double[] zipfCumulativeWeights(int size, double exponent) {
+        double[] weights = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += 1 / Math.pow(i + 1, exponent);
+            weights[i] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            weights[i] /= total;
+        }
+        return weights;
+    }
+
+    private static double gaussian(SplittableRandom random, double mean, double deviation) {
+        double u1 = 1 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return mean + deviation * Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    private static final class RankPermutation {
+        private final long count;
+        private final long multiplier;
+        private final long offset;
+
+        private RankPermutation(int count, long seed) {
+            this.count = Math.max(count, 1);
+            long candidate = Math.floorMod(mix(seed), this.count) | 1;
+            while (gcd(candidate, this.count) != 1) {
+                candidate += 2;
+            }
+            this.multiplier = candidate;
+            this.offset = Math.floorMod(mix(seed + 1), this.count);
+        }
+
+        private int rankOf(long index) {
+            return (int) ((multiplier * index + offset) % count) + 1;
+        }
+
+        private static long gcd(long a, long b) {
+            return b == 0 ? a : gcd(b, a % b);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int count = 1_000_000;
+        long seed = 42;
+        Format format = Format.JSON;
+        Path output = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--count" -> count = Integer.parseInt(args[++i].replace("_", ""));
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--format" -> format = Format.valueOf(args[++i].toUpperCase());
+                case "--output" -> output = Path.of(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]
+                        + " (expected --count, --seed, --format json|ndjson, --output)");
+            }
+        }
+        if (output == null) {
+            output = Path.of(format == Format.JSON ? "headtohead.json" : "headtohead.ndjson");
+        }
+
+        long start = System.nanoTime();
+        new PlayerDatasetGenerator(seed).write(count, format, output);
+        log.info("Generated {} players ({}, seed {}) in {} in {} ms",
+                count, format, seed, output, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,145 @@
+package com.tennis.infrastructure.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sampled, asynchronous access log. Request threads only push an entry into a lock-free ring buffer;
+ * a background thread formats the lines and writes them to the {@code access} logger.
+ * Server errors are always logged, whatever the sampling rate.
+ */
+@Component
+@Slf4j
+public class AccessLog implements MeterBinder {
+
+    private static final Logger ACCESS_LOGGER = LoggerFactory.getLogger("access");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    static final String DEFAULT_SAMPLE_RATE = "0.1";
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final AccessLogRingBuffer<Entry> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running;
+    private Thread writer;
+
+    public AccessLog(@Value("${tennis.access-log.enabled:true}") boolean enabled,
+                     @Value("${tennis.access-log.sample-rate:" + DEFAULT_SAMPLE_RATE + "}") double sampleRate,
+                     @Value("${tennis.access-log.buffer-size:8192}") int bufferSize) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Access log sample rate must be between 0 and 1, got " + sampleRate);
+        }
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.buffer = new AccessLogRingBuffer<>(bufferSize);
+    }
+
+    public static AccessLog disabled() {
+        return new AccessLog(false, 0, 2);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        writer = new Thread(this::drainLoop, "access-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Access log enabled (sample rate {}, buffer of {} entries)", sampleRate, buffer.capacity());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    public void http(String method, String path, int status, long durationNanos) {
+        if (shouldRecord(status >= 500)) {
+            offer(new Entry(System.currentTimeMillis(), "http", method, path, status, durationNanos));
+        }
+    }
+
+    public void write(String operation, long players, long durationNanos) {
+        if (shouldRecord(false)) {
+            offer(new Entry(System.currentTimeMillis(), "repository", operation, null, players, durationNanos));
+        }
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("tennis.access.log.dropped", dropped, AtomicLong::get)
+                .description("Access log entries dropped because the buffer was full")
+                .register(registry);
+    }
+
+    int drain() {
+        int drained = 0;
+        for (Entry entry = buffer.poll(); entry != null; entry = buffer.poll()) {
+            ACCESS_LOGGER.info(entry.format());
+            drained++;
+        }
+        return drained;
+    }
+
+    private boolean shouldRecord(boolean always) {
+        return enabled && (always || sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private void offer(Entry entry) {
+        if (!buffer.offer(entry)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        drain();
+    }
+
+    private record Entry(long timestamp, String type, String operation, String path, long value, long durationNanos) {
+
+        String format() {
+            StringBuilder line = new StringBuilder(128)
+                    .append("ts=").append(Instant.ofEpochMilli(timestamp))
+                    .append(" type=").append(type);
+            if (path != null) {
+                line.append(" method=").append(operation)
+                        .append(" path=").append(path)
+                        .append(" status=").append(value);
+            } else {
+                line.append(" op=").append(operation)
+                        .append(" players=").append(value);
+            }
+            return line.append(" latency_us=").append(TimeUnit.NANOSECONDS.toMicros(durationNanos)).toString();
+        }
+    }
+}
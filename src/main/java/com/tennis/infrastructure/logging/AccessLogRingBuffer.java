@@ -0,0 +1,54 @@
+package com.tennis.infrastructure.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded multi-producer / single-consumer ring buffer. Producers claim a slot with a CAS on the head
+ * sequence and never block: when the buffer is full the entry is rejected.
+ */
+final class AccessLogRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    AccessLogRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two, got " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    boolean offer(T value) {
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail.get() >= slots.length()) {
+                return false;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        slots.lazySet((int) sequence & mask, value);
+        return true;
+    }
+
+    T poll() {
+        long sequence = tail.get();
+        int index = (int) sequence & mask;
+        T value = slots.get(index);
+        if (value == null) {
+            return null;
+        }
+
+        slots.lazySet(index, null);
+        tail.lazySet(sequence + 1);
+        return value;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,79 @@
+package com.tennis.infrastructure.metrics;
+
+import com.tennis.domain.port.out.PlayerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every call going through an inbound port ({@code tennis.usecase}) or the {@link PlayerRepository}
+ * outbound port ({@code tennis.repository}), with percentile histograms tagged by port and method.
+ */
+@Component
+public class PortMetricsPostProcessor implements BeanPostProcessor {
+
+    static final String USE_CASE_TIMER = "tennis.usecase";
+    static final String REPOSITORY_TIMER = "tennis.repository";
+
+    private static final String INBOUND_PORTS_PACKAGE = "com.tennis.domain.port.in";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public PortMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        List<Class<?>> ports = Arrays.stream(ClassUtils.getAllInterfacesForClass(bean.getClass()))
+                .filter(type -> type == PlayerRepository.class || INBOUND_PORTS_PACKAGE.equals(type.getPackageName()))
+                .toList();
+        if (ports.isEmpty()) {
+            return bean;
+        }
+
+        Map<Method, Optional<Timer>> timers = new ConcurrentHashMap<>();
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            Optional<Timer> timer = registry != null
+                    ? timers.computeIfAbsent(invocation.getMethod(), method -> timerFor(registry, ports, method))
+                    : Optional.empty();
+            if (timer.isEmpty()) {
+                return invocation.proceed();
+            }
+
+            Timer.Sample sample = Timer.start();
+            try {
+                return invocation.proceed();
+            } finally {
+                sample.stop(timer.get());
+            }
+        });
+        return proxyFactory.getProxy();
+    }
+
+    private Optional<Timer> timerFor(MeterRegistry registry, List<Class<?>> ports, Method method) {
+        return ports.stream()
+                .filter(port -> ClassUtils.hasMethod(port, method.getName(), method.getParameterTypes()))
+                .findFirst()
+                .map(port -> Timer.builder(port == PlayerRepository.class ? REPOSITORY_TIMER : USE_CASE_TIMER)
+                        .tag("port", port.getSimpleName())
+                        .tag("method", method.getName())
+                        .publishPercentileHistogram()
+                        .register(registry));
+    }
+}
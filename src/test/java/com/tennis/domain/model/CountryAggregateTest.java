@@ -0,0 +1,91 @@
+package com.tennis.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountryAggregateTest {
+
+    @Test
+    void shouldMergePartialAggregates() {
+        // Given
+        Player first = player(1, "FRA", 180, List.of(1, 1, 0, 1));
+        Player second = player(2, "FRA", 185, List.of(0, 1));
+        Player third = player(3, "FRA", 190, List.of(1));
+        CountryAggregate left = new CountryAggregate("FRA");
+        left.add(first);
+        CountryAggregate right = new CountryAggregate("FRA");
+        right.add(second);
+        right.add(third);
+
+        // When
+        Statistic merged = left.merge(right).toStatistic();
+
+        // Then
+        CountryAggregate expected = new CountryAggregate("FRA");
+        List.of(first, second, third).forEach(expected::add);
+        assertThat(merged).isEqualTo(expected.toStatistic());
+        assertThat(merged.getMedianHeight()).isEqualTo(185.0);
+    }
+
+    @Test
+    void shouldGroupLargeCollectionsInParallelLikeSequentialAdds() {
+        // Given
+        String[] countries = {"FRA", "ESP", "USA", "SRB"};
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 5 * CountryAggregate.PARALLEL_THRESHOLD; i++) {
+            players.add(player(i, countries[i % countries.length], 160 + i % 50, List.of(i % 2, i % 3 == 0 ? 1 : 0)));
+        }
+        Map<String, CountryAggregate> sequential = new TreeMap<>();
+        players.forEach(player -> sequential.computeIfAbsent(player.getCountry().getCode(), CountryAggregate::new).add(player));
+
+        // When
+        List<Statistic> grouped = CountryAggregate.groupByCountry(players).stream()
+                .map(CountryAggregate::toStatistic)
+                .sorted(Comparator.comparing(Statistic::getCountryCode))
+                .toList();
+
+        // Then
+        assertThat(grouped).usingRecursiveComparison()
+                .withComparatorForType(Comparator.<Double>comparingDouble(value -> Math.round(value * 1e6)), Double.class)
+                .isEqualTo(sequential.values().stream().map(CountryAggregate::toStatistic).toList());
+    }
+
+    @Test
+    void shouldNotClampAnOutlierPlayerIntoTheEdgeBin() {
+        // Given
+        CountryAggregate aggregate = new CountryAggregate("USA");
+        aggregate.add(player(1, "USA", 180, List.of(1)));
+        aggregate.add(player(2, "USA", 260, List.of(1)));
+        aggregate.add(player(3, "USA", 272, List.of(1)));
+
+        // When
+        Statistic statistic = aggregate.toStatistic();
+        PercentileReport report = aggregate.percentiles(PlayerMetric.HEIGHT, List.of(100.0));
+
+        // Then
+        assertThat(statistic.getMedianHeight()).isEqualTo(260.0);
+        assertThat(report.getPercentiles()).containsEntry(100.0, 272.0);
+    }
+
+    private static Player player(long id, String country, int height, List<Integer> last) {
+        return Player.builder()
+                .id(id)
+                .firstname("Player")
+                .lastname(String.valueOf(id))
+                .country(Country.builder().code(country).build())
+                .data(PlayerData.builder()
+                        .rank((int) id + 1)
+                        .weight(75000)
+                        .height(height)
+                        .last(last)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.tennis.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntHistogramTest {
+
+    @Test
+    void shouldComputeMedianOfOddAndEvenCounts() {
+        // Given
+        IntHistogram histogram = new IntHistogram(100, 250);
+        histogram.add(180);
+        histogram.add(190);
+        histogram.add(185);
+
+        // When
+        double oddMedian = histogram.median();
+        histogram.add(200);
+        double evenMedian = histogram.median();
+
+        // Then
+        assertThat(oddMedian).isEqualTo(185.0);
+        assertThat(evenMedian).isEqualTo(187.5);
+        assertThat(histogram.getCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldInterpolatePercentilesBetweenRanks() {
+        // Given
+        IntHistogram histogram = new IntHistogram(0, 100);
+        for (int value = 1; value <= 10; value++) {
+            histogram.add(value * 10);
+        }
+
+        // When & Then
+        assertThat(histogram.percentile(0)).isEqualTo(10.0);
+        assertThat(histogram.percentile(100)).isEqualTo(100.0);
+        assertThat(histogram.percentile(90)).isEqualTo(91.0);
+        assertThat(histogram.percentile(25)).isEqualTo(32.5);
+    }
+
+    @Test
+    void shouldRemoveValuesAndIgnoreUnknownOnes() {
+        // Given
+        IntHistogram histogram = new IntHistogram(100, 250);
+        histogram.add(180);
+        histogram.add(190);
+
+        // When
+        histogram.remove(190);
+        histogram.remove(170);
+
+        // Then
+        assertThat(histogram.getCount()).isEqualTo(1);
+        assertThat(histogram.median()).isEqualTo(180.0);
+    }
+
+    @Test
+    void shouldKeepOutOfRangeValuesExactAndMerge() {
+        // Given
+        IntHistogram left = new IntHistogram(100, 250);
+        IntHistogram right = new IntHistogram(100, 250);
+        left.add(90);
+        left.add(180);
+        right.add(300);
+        right.add(300);
+
+        // When
+        left.merge(right);
+        left.remove(300);
+
+        // Then
+        assertThat(left.getCount()).isEqualTo(3);
+        assertThat(left.percentile(0)).isEqualTo(90.0);
+        assertThat(left.median()).isEqualTo(180.0);
+        assertThat(left.percentile(100)).isEqualTo(300.0);
+        assertThat(left.percentile(75)).isEqualTo(240.0);
+        assertThat(new IntHistogram(0, 10).median()).isZero();
+    }
+
+    @Test
+    void shouldRejectInvalidPercentilesAndRanges() {
+        assertThatThrownBy(() -> new IntHistogram(0, 10).percentile(101)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IntHistogram(10, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IntHistogram(0, 10).merge(new IntHistogram(0, 20)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
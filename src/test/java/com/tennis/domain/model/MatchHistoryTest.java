@@ -0,0 +1,84 @@
+package com.tennis.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class MatchHistoryTest {
+
+    @Test
+    void shouldKeepResultsInChronologicalOrder() {
+        // Given
+        List<Integer> results = Arrays.asList(1, 0, 0, 1, 1);
+
+        // When
+        MatchHistory history = MatchHistory.of(results);
+
+        // Then
+        assertThat(history.toList()).isEqualTo(results);
+        assertThat(history.getWins()).isEqualTo(3);
+        assertThat(history.getLosses()).isEqualTo(2);
+        assertThat(history.getWinRate()).isEqualTo(60.0);
+        assertThat(history.getCurrentStreak()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRollFormWhenResultsArePushed() {
+        // Given
+        MatchHistory history = MatchHistory.of(Arrays.asList(1, 1, 1), 3);
+
+        // When
+        MatchHistory rolled = history.push(false).push(false);
+
+        // Then
+        assertThat(rolled.toList()).containsExactly(1, 0, 0);
+        assertThat(rolled.getLength()).isEqualTo(3);
+        assertThat(rolled.getWinRate()).isCloseTo(33.33, within(0.01));
+        assertThat(rolled.getWinRateOverLast(2)).isEqualTo(0.0);
+        assertThat(rolled.getCurrentStreak()).isEqualTo(-2);
+        assertThat(history.toList()).containsExactly(1, 1, 1);
+    }
+
+    @Test
+    void shouldStartEmptyAndGrowUpToTheWindow() {
+        // When
+        MatchHistory history = MatchHistory.empty(2).push(true).push(false).push(true);
+
+        // Then
+        assertThat(history.getWindow()).isEqualTo(2);
+        assertThat(history.toList()).containsExactly(0, 1);
+    }
+
+    @Test
+    void shouldRoundTripThroughBitsWithItsWindow() {
+        // Given
+        MatchHistory history = MatchHistory.of(Arrays.asList(0, 0, 1, 0, 1), 8);
+
+        // When
+        MatchHistory restored = MatchHistory.fromBits(history.getResults(), history.getLength(), history.getWindow());
+
+        // Then
+        assertThat(restored).isEqualTo(history);
+        assertThat(restored.toList()).containsExactly(0, 0, 1, 0, 1);
+    }
+
+    @Test
+    void shouldRejectMoreResultsThanTheWindow() {
+        assertThatThrownBy(() -> MatchHistory.of(Arrays.asList(0, 0, 1, 0, 1), 3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At most 3 match results");
+        assertThatThrownBy(() -> MatchHistory.fromBits(0L, 4, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectInvalidWindow() {
+        assertThatThrownBy(() -> MatchHistory.of(List.of(1), MatchHistory.MAX_WINDOW + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
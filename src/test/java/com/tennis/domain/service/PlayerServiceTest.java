@@ -1,10 +1,19 @@
 package com.tennis.domain.service;
 
+import com.tennis.domain.model.BatchItemResult;
 import com.tennis.domain.model.Country;
+import com.tennis.domain.model.CountryAggregate;
+import com.tennis.domain.model.CountryMetric;
+import com.tennis.domain.model.PercentileReport;
 import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerMetric;
 import com.tennis.domain.model.PlayerData;
+import com.tennis.domain.model.PlayerReplacement;
+import com.tennis.domain.model.PlayerSearchCriteria;
 import com.tennis.domain.model.Statistic;
 import com.tennis.domain.port.out.PlayerRepository;
+import com.tennis.domain.service.exception.NoStatisticAvailableException;
+import com.tennis.domain.service.exception.PlayerVersionConflictException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,12 +22,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -128,8 +146,8 @@ class PlayerServiceTest {
     @Test
     void shouldReturnPlayersSortedByRank() {
         // Given
-        List<Player> players = Arrays.asList(playerUSA, playerFRA2, playerFRA1);
-        when(playerRepository.findAll()).thenReturn(players);
+        List<Player> players = Arrays.asList(playerFRA1, playerFRA2, playerUSA);
+        when(playerRepository.findAllSortedByRank(0, Integer.MAX_VALUE)).thenReturn(players);
 
         // When
         List<Player> sortedPlayers = playerService.getPlayersSortedByRank();
@@ -141,6 +159,67 @@ class PlayerServiceTest {
         assertThat(sortedPlayers.get(2).getData().getRank()).isEqualTo(3);
     }
 
+    @Test
+    void shouldReturnRankingPage() {
+        // Given
+        when(playerRepository.findAllSortedByRank(1, 2)).thenReturn(Arrays.asList(playerFRA2, playerUSA));
+
+        // When
+        List<Player> page = playerService.getPlayersSortedByRank(1, 2);
+
+        // Then
+        assertThat(page).extracting(player -> player.getData().getRank()).containsExactly(2, 3);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenRankingPageIsNegative() {
+        // When & Then
+        assertThatThrownBy(() -> playerService.getPlayersSortedByRank(-1, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Offset and limit must be positive");
+    }
+
+    @Test
+    void shouldSearchPlayersWithNormalizedCriteria() {
+        // Given
+        PlayerSearchCriteria expected = PlayerSearchCriteria.builder().countryCode("FRA").sex("F").minAge(25).build();
+        when(playerRepository.search(expected, 0, 20)).thenReturn(List.of(playerFRA1));
+
+        // When
+        List<Player> players = playerService.searchPlayers(
+                PlayerSearchCriteria.builder().countryCode("fra").sex("f").minAge(25).build(), 0, 20);
+
+        // Then
+        assertThat(players).containsExactly(playerFRA1);
+        assertThatThrownBy(() -> playerService.searchPlayers(new PlayerSearchCriteria(), 0, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRequireAtLeastOneSearchCriterion() {
+        // When & Then
+        assertThatThrownBy(() -> playerService.searchPlayers(new PlayerSearchCriteria(), 0, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At least one search criterion is required");
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    void shouldSuggestPlayersWithNormalizedQuery() {
+        // Given
+        when(playerRepository.suggest("jowi", 5)).thenReturn(List.of(playerFRA1));
+
+        // When
+        List<Player> players = playerService.suggestPlayers(" Jo-Wi ", 5);
+
+        // Then
+        assertThat(players).containsExactly(playerFRA1);
+        assertThatThrownBy(() -> playerService.suggestPlayers("-", 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> playerService.suggestPlayers("jo", PlayerRepository.MAX_SUGGESTIONS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void shouldCalculateWinRateCorrectly() {
         // When
@@ -157,7 +236,8 @@ class PlayerServiceTest {
     @Test
     void shouldReturnCountryWithBestWinRatio() {
         // Given
-        when(playerRepository.findAll()).thenReturn(Arrays.asList(playerFRA1, playerFRA2, playerUSA));
+        when(playerRepository.findCountryAggregates())
+                .thenReturn(CountryAggregate.groupByCountry(Arrays.asList(playerFRA1, playerFRA2, playerUSA)));
 
         // When
         Statistic stats = playerService.getCountryWithBestWinRatio();
@@ -168,10 +248,64 @@ class PlayerServiceTest {
         assertThat(stats.getWinRatio()).isEqualTo(70.0); // (80 + 60) / 2
     }
 
+    @Test
+    void shouldReturnCountryLeaderboardSortedByMetric() {
+        // Given
+        when(playerRepository.findCountryAggregates())
+                .thenAnswer(invocation -> CountryAggregate.groupByCountry(Arrays.asList(playerFRA1, playerFRA2, playerUSA)));
+
+        // When
+        List<Statistic> byWinRatio = playerService.getCountryLeaderboard(CountryMetric.WIN_RATIO, true);
+        List<Statistic> byCode = playerService.getCountryLeaderboard(CountryMetric.COUNTRY_CODE, false);
+        List<Statistic> byHeight = playerService.getCountryLeaderboard(CountryMetric.MEDIAN_HEIGHT, true);
+
+        // Then
+        assertThat(byWinRatio).extracting(Statistic::getCountryCode).containsExactly("FRA", "USA");
+        assertThat(byWinRatio.get(0).getWinRatio()).isEqualTo(70.0);
+        assertThat(byCode).extracting(Statistic::getCountryCode).containsExactly("FRA", "USA");
+        assertThat(byHeight).isSortedAccordingTo(CountryMetric.MEDIAN_HEIGHT.comparator(true));
+    }
+
+    @Test
+    void shouldReturnPercentilesForCountryAndGlobally() {
+        // Given
+        CountryAggregate global = new CountryAggregate(null);
+        List.of(playerFRA1, playerFRA2, playerUSA).forEach(global::add);
+        when(playerRepository.findCountryAggregates())
+                .thenReturn(CountryAggregate.groupByCountry(Arrays.asList(playerFRA1, playerFRA2, playerUSA)));
+        when(playerRepository.findGlobalAggregate()).thenReturn(global);
+
+        // When
+        PercentileReport franceAge = playerService.getPercentiles(PlayerMetric.AGE, "fra", List.of(50.0));
+        PercentileReport globalWeight = playerService.getPercentiles(PlayerMetric.WEIGHT, null, List.of(0.0, 50.0, 100.0));
+
+        // Then
+        assertThat(franceAge.getCountryCode()).isEqualTo("FRA");
+        assertThat(franceAge.getCount()).isEqualTo(2);
+        assertThat(franceAge.getPercentiles()).containsEntry(50.0, 26.5);
+        assertThat(globalWeight.getCountryCode()).isNull();
+        assertThat(globalWeight.getPercentiles()).containsExactly(
+                Map.entry(0.0, 75.0), Map.entry(50.0, 78.0), Map.entry(100.0, 80.0));
+    }
+
+    @Test
+    void shouldFailPercentilesForUnknownCountry() {
+        // Given
+        when(playerRepository.findCountryAggregates())
+                .thenReturn(CountryAggregate.groupByCountry(Arrays.asList(playerFRA1, playerUSA)));
+
+        // When & Then
+        assertThatThrownBy(() -> playerService.getPercentiles(PlayerMetric.HEIGHT, "ITA", List.of(50.0)))
+                .isInstanceOf(NoStatisticAvailableException.class);
+        assertThatThrownBy(() -> playerService.getPercentiles(PlayerMetric.HEIGHT, null, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void shouldCalculateAverageBMIForCountry() {
         // Given
-        when(playerRepository.findAll()).thenReturn(Arrays.asList(playerFRA1, playerFRA2, playerUSA));
+        when(playerRepository.findCountryAggregates())
+                .thenReturn(CountryAggregate.groupByCountry(Arrays.asList(playerFRA1, playerFRA2, playerUSA)));
 
         // When
         Statistic stats = playerService.getCountryWithBestWinRatio();
@@ -184,7 +318,8 @@ class PlayerServiceTest {
     @Test
     void shouldCalculateMedianHeightForCountry() {
         // Given
-        when(playerRepository.findAll()).thenReturn(Arrays.asList(playerFRA1, playerFRA2, playerUSA));
+        when(playerRepository.findCountryAggregates())
+                .thenReturn(CountryAggregate.groupByCountry(Arrays.asList(playerFRA1, playerFRA2, playerUSA)));
 
         // When
         Statistic stats = playerService.getCountryWithBestWinRatio();
@@ -194,6 +329,16 @@ class PlayerServiceTest {
         assertThat(stats.getMedianHeight()).isEqualTo(182.5);
     }
 
+    @Test
+    void shouldThrowExceptionWhenNoCountryAvailable() {
+        // Given
+        when(playerRepository.findCountryAggregates()).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> playerService.getCountryWithBestWinRatio())
+                .isInstanceOf(NoStatisticAvailableException.class);
+    }
+
     @Test
     void shouldCalculateBMI() {
         // When
@@ -248,6 +393,84 @@ class PlayerServiceTest {
         verify(playerRepository).save(newPlayer);
     }
 
+    @Test
+    void shouldCreatePlayersInOneRepositoryCall() {
+        // Given
+        Player valid = Player.builder().firstname("Jean-Jacques").lastname("Golman").build();
+        Player invalid = Player.builder().lastname("Last name").build();
+
+        // When
+        List<BatchItemResult> results = playerService.createPlayers(List.of(valid, invalid));
+
+        // Then
+        assertThat(results).extracting(BatchItemResult::getStatus)
+                .containsExactly(BatchItemResult.Status.CREATED, BatchItemResult.Status.INVALID);
+        verify(playerRepository).saveAll(List.of(valid));
+    }
+
+    @Test
+    void shouldUpdatePlayersAndReportMissingOnes() {
+        // Given
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(playerFRA1));
+        when(playerRepository.findById(42L)).thenReturn(Optional.empty());
+        when(playerRepository.replaceAll(any())).thenAnswer(invocation -> stored(invocation.getArgument(0)));
+
+        // When
+        List<BatchItemResult> results = playerService.updatePlayers(List.of(
+                Player.builder().id(1L).firstname("Celine Updated").build(),
+                Player.builder().id(42L).firstname("Ghost").build(),
+                Player.builder().id(1L).lastname("Dion Updated").build()));
+
+        // Then
+        assertThat(results).extracting(BatchItemResult::getStatus).containsExactly(
+                BatchItemResult.Status.UPDATED, BatchItemResult.Status.NOT_FOUND, BatchItemResult.Status.UPDATED);
+        assertThat(results.get(2).getPlayer().getFullName()).isEqualTo("Celine Updated Dion Updated");
+        assertThat(results.get(0).getPlayer()).isSameAs(results.get(2).getPlayer());
+        assertThat(playerFRA1.getFullName()).isEqualTo("Celine Dion");
+        verify(playerRepository).replaceAll(List.of(new PlayerReplacement(playerFRA1, results.get(2).getPlayer())));
+        verify(playerRepository, never()).replace(any(), any());
+        verify(playerRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void shouldNotOverwriteAVersionedUpdateThatWonTheRaceAgainstABatch() {
+        // Given
+        Player afterPut = playerFRA1.toBuilder().lastname("Dion Put").version(2).build();
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(playerFRA1), Optional.of(afterPut));
+        when(playerRepository.findById(2L)).thenReturn(Optional.of(playerFRA2));
+        when(playerRepository.replaceAll(any()))
+                .thenAnswer(invocation -> stored(invocation.<List<PlayerReplacement>>getArgument(0).stream()
+                        .filter(replacement -> replacement.expected() != playerFRA1)
+                        .toList()));
+
+        // When
+        List<BatchItemResult> results = playerService.updatePlayers(List.of(
+                Player.builder().id(1L).firstname("Celine Batch").build(),
+                Player.builder().id(2L).firstname("Batch").build()));
+
+        // Then
+        assertThat(results).extracting(BatchItemResult::getStatus)
+                .containsExactly(BatchItemResult.Status.UPDATED, BatchItemResult.Status.UPDATED);
+        assertThat(results.get(0).getPlayer().getFullName()).isEqualTo("Celine Batch Dion Put");
+        verify(playerRepository, times(2)).replaceAll(any());
+        verify(playerRepository).replaceAll(argThat(replacements -> replacements.size() == 1
+                && replacements.get(0).expected() == afterPut));
+        verify(playerRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void shouldDeletePlayersAndReportMissingOnes() {
+        // Given
+        when(playerRepository.deleteAllById(List.of(1L, 42L))).thenReturn(Set.of(1L));
+
+        // When
+        List<BatchItemResult> results = playerService.deletePlayers(List.of(1L, 42L));
+
+        // Then
+        assertThat(results).extracting(BatchItemResult::getStatus)
+                .containsExactly(BatchItemResult.Status.DELETED, BatchItemResult.Status.NOT_FOUND);
+    }
+
     @Test
     void shouldThrowExceptionWhenFirstnameIsNull() {
         // Given
@@ -278,6 +501,8 @@ class PlayerServiceTest {
     void shouldUpdateExistingPlayer() {
         // Given
         when(playerRepository.findById(1L)).thenReturn(Optional.of(playerFRA1));
+        when(playerRepository.replace(eq(playerFRA1), any(Player.class)))
+                .thenAnswer(invocation -> Optional.of(invocation.getArgument(1)));
 
         Player updatedData = Player.builder()
                 .firstname("Celine Updated")
@@ -300,6 +525,34 @@ class PlayerServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getFirstname()).isEqualTo("Celine Updated");
+        assertThat(playerFRA1.getFirstname()).isEqualTo("Celine");
+    }
+
+    @Test
+    void shouldRetryUpdateWhenPlayerChangedConcurrently() {
+        // Given
+        Player concurrent = playerFRA1.toBuilder().lastname("Concurrent").version(2).build();
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(playerFRA1), Optional.of(concurrent));
+        when(playerRepository.replace(eq(playerFRA1), any(Player.class))).thenReturn(Optional.empty());
+        when(playerRepository.replace(eq(concurrent), any(Player.class)))
+                .thenAnswer(invocation -> Optional.of(invocation.getArgument(1)));
+
+        // When
+        Player result = playerService.updatePlayer(1L, Player.builder().firstname("Celine Updated").build());
+
+        // Then
+        assertThat(result.getFullName()).isEqualTo("Celine Updated Concurrent");
+    }
+
+    @Test
+    void shouldRejectUpdateWhenExpectedVersionIsStale() {
+        // Given
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(playerFRA1.toBuilder().version(3).build()));
+
+        // When & Then
+        assertThatThrownBy(() -> playerService.updatePlayer(1L, Player.builder().firstname("Late").build(), 2L))
+                .isInstanceOf(PlayerVersionConflictException.class);
+        verify(playerRepository, never()).replace(any(), any());
     }
 
     @Test
@@ -337,4 +590,10 @@ class PlayerServiceTest {
         // Then
         verify(playerRepository).deleteById(nonExistentId);
     }
-}
\ No newline at end of file
+
+    private static Map<Long, Player> stored(List<PlayerReplacement> replacements) {
+        Map<Long, Player> stored = new LinkedHashMap<>();
+        replacements.forEach(replacement -> stored.put(replacement.updated().getId(), replacement.updated()));
+        return stored;
+    }
+}
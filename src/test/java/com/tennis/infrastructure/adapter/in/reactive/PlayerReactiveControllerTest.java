@@ -0,0 +1,281 @@
+package com.tennis.infrastructure.adapter.in.reactive;
+
+import com.tennis.domain.model.BatchItemResult;
+import com.tennis.domain.model.Country;
+import com.tennis.domain.model.CountryMetric;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerData;
+import com.tennis.domain.model.PlayerSearchCriteria;
+import com.tennis.domain.model.Statistic;
+import com.tennis.domain.port.in.*;
+import com.tennis.infrastructure.adapter.in.rest.PlayerBatchProcessor;
+import com.tennis.infrastructure.adapter.in.rest.dto.PlayerStatsResponse;
+import com.tennis.infrastructure.logging.AccessLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(PlayerReactiveController.class)
+@ActiveProfiles("reactive")
+@Import({PlayerBatchProcessor.class, AccessLog.class})
+class PlayerReactiveControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private GetPlayerStatsUseCase getPlayerStatsUseCase;
+
+    @MockBean
+    private GetPlayerRankingUseCase getPlayerRankingUseCase;
+
+    @MockBean
+    private GetCountryWithBestRatioUseCase getCountryWithBestRatioUseCase;
+
+    @MockBean
+    private GetCountryLeaderboardUseCase getCountryLeaderboardUseCase;
+
+    @MockBean
+    private GetPercentilesUseCase getPercentilesUseCase;
+
+    @MockBean
+    private SearchPlayersUseCase searchPlayersUseCase;
+
+    @MockBean
+    private SuggestPlayersUseCase suggestPlayersUseCase;
+
+    @MockBean
+    private CreatePlayerUseCase createPlayerUseCase;
+
+    @MockBean
+    private UpdatePlayerUseCase updatePlayerUseCase;
+
+    @MockBean
+    private DeletePlayerUseCase deletePlayerUseCase;
+
+    @MockBean
+    private GetDatasetVersionUseCase getDatasetVersionUseCase;
+
+    private List<Player> testPlayers;
+
+    @BeforeEach
+    void setUp() {
+        testPlayers = List.of(
+                Player.builder()
+                        .id(1L)
+                        .firstname("Rafael")
+                        .lastname("Nadal")
+                        .country(Country.builder().code("ESP").build())
+                        .data(PlayerData.builder().rank(1).last(Arrays.asList(1, 1, 1, 0, 1)).build())
+                        .build(),
+                Player.builder()
+                        .id(2L)
+                        .firstname("Roger")
+                        .lastname("Federer")
+                        .country(Country.builder().code("SUI").build())
+                        .data(PlayerData.builder().rank(2).build())
+                        .build());
+    }
+
+    @Test
+    void shouldStreamAllPlayersAsNdjsonWithBackpressure() {
+        // Given
+        when(getPlayerStatsUseCase.streamAllPlayers()).thenAnswer(invocation -> testPlayers.stream());
+
+        // When
+        Flux<PlayerStatsResponse> players = webTestClient.get()
+                .uri("/api/players")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(PlayerStatsResponse.class)
+                .getResponseBody();
+
+        // Then
+        StepVerifier.create(players, 1)
+                .expectNextMatches(player -> player.getFirstname().equals("Rafael") && player.getData().getWinRate() == 80.0)
+                .thenRequest(1)
+                .expectNextMatches(player -> player.getFirstname().equals("Roger"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnAllPlayersAsJsonArray() {
+        // Given
+        when(getPlayerStatsUseCase.streamAllPlayers()).thenAnswer(invocation -> Stream.of(testPlayers.get(0)));
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/players")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].lastname").isEqualTo("Nadal");
+    }
+
+    @Test
+    void shouldReturn404WhenPlayerNotFound() {
+        // Given
+        when(getPlayerStatsUseCase.getPlayerById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/players/99")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldReturnRankingPageAndRejectInvalidPage() {
+        // Given
+        when(getPlayerRankingUseCase.getPlayersSortedByRank(0, 1)).thenReturn(testPlayers.subList(0, 1));
+        when(getPlayerRankingUseCase.getPlayersSortedByRank(-1, 1))
+                .thenThrow(new IllegalArgumentException("Offset and limit must be positive"));
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/players/ranking?limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].data.rank").isEqualTo(1);
+        webTestClient.get()
+                .uri("/api/players/ranking?offset=-1&limit=1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldSearchPlayersAndRejectInvalidPage() {
+        // Given
+        when(searchPlayersUseCase.searchPlayers(PlayerSearchCriteria.builder().countryCode("SUI").build(), 0, Integer.MAX_VALUE))
+                .thenReturn(testPlayers.subList(1, 2));
+        when(searchPlayersUseCase.searchPlayers(new PlayerSearchCriteria(), 0, -1))
+                .thenThrow(new IllegalArgumentException("Offset and limit must be positive"));
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/players/search?country=SUI")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].lastname").isEqualTo("Federer");
+        webTestClient.get()
+                .uri("/api/players/search?limit=-1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldSuggestPlayers() {
+        // Given
+        when(suggestPlayersUseCase.suggestPlayers("ro", 3)).thenReturn(testPlayers.subList(1, 2));
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/players/suggest?q=ro&limit=3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].firstname").isEqualTo("Roger");
+    }
+
+    @Test
+    void shouldReturn304WhenDatasetIsUnchanged() {
+        // Given
+        when(getDatasetVersionUseCase.getDatasetVersion()).thenReturn(3L);
+        when(getPlayerStatsUseCase.streamAllPlayers()).thenAnswer(invocation -> testPlayers.stream());
+        String etag = webTestClient.get()
+                .uri("/api/players")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/players/country/best-ratio")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED);
+        verifyNoInteractions(getCountryWithBestRatioUseCase);
+    }
+
+    @Test
+    void shouldReturnCountryLeaderboard() {
+        // Given
+        when(getCountryLeaderboardUseCase.getCountryLeaderboard(CountryMetric.WIN_RATIO, true)).thenReturn(List.of(
+                Statistic.builder().countryCode("FRA").winRatio(75.0).build(),
+                Statistic.builder().countryCode("USA").winRatio(40.0).build()));
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/players/country/leaderboard")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].countryCode").isEqualTo("FRA")
+                .jsonPath("$[1].countryCode").isEqualTo("USA");
+        webTestClient.get()
+                .uri("/api/players/country/leaderboard?sort=unknown")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldRejectInvalidPlayerCreation() {
+        // When & Then
+        webTestClient.post()
+                .uri("/api/players")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"firstname\":\"Only\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verifyNoInteractions(createPlayerUseCase);
+    }
+
+    @Test
+    void shouldDeletePlayersInBatch() {
+        // Given
+        when(deletePlayerUseCase.deletePlayers(List.of(1L, 42L))).thenReturn(List.of(
+                BatchItemResult.builder().status(BatchItemResult.Status.DELETED).id(1L).build(),
+                BatchItemResult.builder().status(BatchItemResult.Status.NOT_FOUND).id(42L).build()));
+
+        // When & Then
+        webTestClient.method(HttpMethod.DELETE)
+                .uri("/api/players/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(1L, 42L))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].status").isEqualTo("DELETED")
+                .jsonPath("$[1].status").isEqualTo("NOT_FOUND");
+        verify(deletePlayerUseCase).deletePlayers(List.of(1L, 42L));
+    }
+}
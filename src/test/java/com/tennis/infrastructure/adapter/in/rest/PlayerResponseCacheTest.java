@@ -0,0 +1,118 @@
+package com.tennis.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.domain.model.Country;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerChangedEvent;
+import com.tennis.domain.model.PlayerData;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerResponseCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void shouldEvictOnlyTheChangedPlayer() {
+        // Given
+        PlayerResponseCache cache = new PlayerResponseCache(objectMapper, 16, DataSize.ofMegabytes(1));
+        AtomicInteger loads = new AtomicInteger();
+        cache.player(1L, () -> load(1L, loads));
+        cache.player(2L, () -> load(2L, loads));
+
+        // When
+        cache.onPlayerChanged(new PlayerChangedEvent(1L));
+        cache.player(1L, () -> load(1L, loads));
+        cache.player(2L, () -> load(2L, loads));
+
+        // Then
+        assertThat(loads).hasValue(3);
+        assertThat(cache.cachedPlayers()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBoundCachedPlayers() {
+        // Given
+        PlayerResponseCache cache = new PlayerResponseCache(objectMapper, 8, DataSize.ofMegabytes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        LongStream.rangeClosed(1, 100).forEach(id -> cache.player(id, () -> load(id, loads)));
+        byte[] list = cache.playerList("all", () -> LongStream.rangeClosed(1, 50).mapToObj(this::player).toList());
+
+        // Then
+        assertThat(cache.cachedPlayers()).isEqualTo(8);
+        assertThat(new String(list)).startsWith("[{").endsWith("}]");
+        cache.player(100L, () -> load(100L, loads));
+        assertThat(loads).hasValue(101);
+    }
+
+    @Test
+    void shouldBoundAssembledListsByTheirSize() {
+        // Given
+        byte[] page = new PlayerResponseCache(objectMapper, 16, DataSize.ofMegabytes(1))
+                .playerList("probe", () -> LongStream.rangeClosed(1, 10).mapToObj(this::player).toList());
+        PlayerResponseCache cache = new PlayerResponseCache(objectMapper, 16, DataSize.ofBytes(page.length * 2L));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        for (String key : List.of("first", "second", "third")) {
+            cache.playerList(key, () -> page(loads));
+        }
+        cache.playerList("third", () -> page(loads));
+        cache.playerList("first", () -> page(loads));
+        byte[] all = cache.playerList("all", () -> LongStream.rangeClosed(1, 30).mapToObj(this::player).toList());
+
+        // Then
+        assertThat(loads).hasValue(4);
+        assertThat(cache.assembledBytes()).isLessThanOrEqualTo(page.length * 2L);
+        assertThat(all.length).isGreaterThan(page.length * 2);
+    }
+
+    @Test
+    void shouldKeepListBodiesAwayFromStalePlayers() throws Exception {
+        // Given
+        PlayerResponseCache cache = new PlayerResponseCache(objectMapper, 16, DataSize.ofMegabytes(1));
+        Player player = player(1L);
+        cache.playerList("all", () -> List.of(player));
+
+        // When
+        player.setFirstname("Rafa");
+        cache.onPlayerChanged(new PlayerChangedEvent(1L));
+        byte[] list = cache.playerList("all", () -> List.of(player));
+
+        // Then
+        assertThat(objectMapper.readTree(list).get(0).get("firstname").asText()).isEqualTo("Rafa");
+    }
+
+    private List<Player> page(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return LongStream.rangeClosed(1, 10).mapToObj(this::player).toList();
+    }
+
+    private Optional<Player> load(long id, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return Optional.of(player(id));
+    }
+
+    private Player player(long id) {
+        return Player.builder()
+                .id(id)
+                .firstname("Player")
+                .lastname("N" + id)
+                .shortname("P.N" + id)
+                .sex("M")
+                .country(Country.builder().code("ESP").picture("es.png").build())
+                .data(PlayerData.builder().rank((int) id).points(1000).weight(80000).height(185).age(30)
+                        .last(List.of(1, 0, 1)).build())
+                .build();
+    }
+}
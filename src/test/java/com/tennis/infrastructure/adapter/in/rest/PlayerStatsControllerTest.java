@@ -1,34 +1,61 @@
 package com.tennis.infrastructure.adapter.in.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.domain.model.BatchItemResult;
 import com.tennis.domain.model.Country;
+import com.tennis.domain.model.CountryMetric;
+import com.tennis.domain.model.MatchHistory;
+import com.tennis.domain.model.PercentileReport;
 import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerChangedEvent;
 import com.tennis.domain.model.PlayerData;
+import com.tennis.domain.model.PlayerSearchCriteria;
+import com.tennis.domain.model.PlayerMetric;
 import com.tennis.domain.model.Statistic;
 import com.tennis.domain.port.in.*;
+import com.tennis.domain.service.exception.NoStatisticAvailableException;
+import com.tennis.domain.service.exception.PlayerVersionConflictException;
 import com.tennis.infrastructure.adapter.in.rest.dto.PlayerCreateRequest;
+import com.tennis.infrastructure.adapter.in.rest.dto.PlayerStatsResponse;
 import com.tennis.infrastructure.adapter.in.rest.dto.PlayerUpdateRequest;
+import com.tennis.infrastructure.logging.AccessLog;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PlayerStatsController.class)
+@Import({PlayerResponseCache.class, PlayerBatchProcessor.class, AccessLog.class})
 class PlayerStatsControllerTest {
 
     @Autowired
@@ -37,6 +64,9 @@ class PlayerStatsControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PlayerResponseCache responseCache;
+
     @MockBean
     private GetPlayerStatsUseCase getPlayerStatsUseCase;
 
@@ -46,6 +76,18 @@ class PlayerStatsControllerTest {
     @MockBean
     private GetCountryWithBestRatioUseCase getCountryWithBestRatioUseCase;
 
+    @MockBean
+    private GetCountryLeaderboardUseCase getCountryLeaderboardUseCase;
+
+    @MockBean
+    private GetPercentilesUseCase getPercentilesUseCase;
+
+    @MockBean
+    private SearchPlayersUseCase searchPlayersUseCase;
+
+    @MockBean
+    private SuggestPlayersUseCase suggestPlayersUseCase;
+
     @MockBean
     private CreatePlayerUseCase createPlayerUseCase;
 
@@ -55,11 +97,16 @@ class PlayerStatsControllerTest {
     @MockBean
     private DeletePlayerUseCase deletePlayerUseCase;
 
+    @MockBean
+    private GetDatasetVersionUseCase getDatasetVersionUseCase;
+
     private Player testPlayer;
     private List<Player> testPlayers;
 
     @BeforeEach
     void setUp() {
+        responseCache.clear();
+
         Country france = Country.builder()
                 .code("FRA")
                 .picture("france.png")
@@ -120,6 +167,49 @@ class PlayerStatsControllerTest {
                 .andExpect(jsonPath("$[1].firstname", is("Roger")));
     }
 
+    @Test
+    void shouldStreamAllPlayersAsNdjson() throws Exception {
+        // Given
+        when(getPlayerStatsUseCase.streamAllPlayers()).thenReturn(testPlayers.stream());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/players")
+                        .accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("firstname").asText()).isEqualTo("Rafael");
+        assertThat(objectMapper.readTree(lines[1]).get("firstname").asText()).isEqualTo("Roger");
+    }
+
+    @Test
+    void shouldStreamAllPlayersAsJsonArray() throws Exception {
+        // Given
+        when(getPlayerStatsUseCase.streamAllPlayers()).thenReturn(testPlayers.stream());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/players")
+                        .param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].data.winRate", is(80.0)))
+                .andExpect(jsonPath("$[1].firstname", is("Roger")));
+    }
+
     @Test
     void shouldReturnPlayerById() throws Exception {
         // Given
@@ -144,6 +234,84 @@ class PlayerStatsControllerTest {
                 .andExpect(jsonPath("$.data.bmi", notNullValue()));
     }
 
+    @Test
+    void shouldServeCachedPlayerUntilItChanges() throws Exception {
+        // Given
+        when(getPlayerStatsUseCase.getPlayerById(1L)).thenReturn(Optional.of(testPlayer));
+        mockMvc.perform(get("/api/players/1")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/players/1")).andExpect(status().isOk());
+
+        // When
+        testPlayer.setFirstname("Rafa");
+        responseCache.onPlayerChanged(new PlayerChangedEvent(1L));
+
+        // Then
+        mockMvc.perform(get("/api/players/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstname", is("Rafa")));
+        verify(getPlayerStatsUseCase, times(2)).getPlayerById(1L);
+    }
+
+    @Test
+    void shouldServeCachedPlayerListUntilAPlayerChanges() throws Exception {
+        // Given
+        when(getPlayerStatsUseCase.getAllPlayers()).thenReturn(testPlayers);
+        String first = mockMvc.perform(get("/api/players"))
+                .andReturn().getResponse().getContentAsString();
+
+        // When
+        String cached = mockMvc.perform(get("/api/players"))
+                .andReturn().getResponse().getContentAsString();
+        responseCache.onPlayerChanged(new PlayerChangedEvent(2L));
+        mockMvc.perform(get("/api/players")).andExpect(jsonPath("$", hasSize(2)));
+
+        // Then
+        assertThat(cached).isEqualTo(first);
+        assertThat(objectMapper.readTree(first)).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(
+                testPlayers.stream().map(PlayerStatsResponse::fromDomain).toList())));
+        verify(getPlayerStatsUseCase, times(2)).getAllPlayers();
+    }
+
+    @Test
+    void shouldReturn304WhenDatasetIsUnchanged() throws Exception {
+        // Given
+        when(getDatasetVersionUseCase.getDatasetVersion()).thenReturn(7L);
+        when(getPlayerRankingUseCase.getPlayersSortedByRank(0, Integer.MAX_VALUE)).thenReturn(testPlayers);
+        String etag = mockMvc.perform(get("/api/players/ranking"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/players/ranking").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/players").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/players/country/best-ratio").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/players").accept("application/x-ndjson").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/players").param("stream", "true").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(getPlayerRankingUseCase, times(1)).getPlayersSortedByRank(0, Integer.MAX_VALUE);
+        verifyNoInteractions(getPlayerStatsUseCase, getCountryWithBestRatioUseCase);
+    }
+
+    @Test
+    void shouldReturnNewBodyWhenDatasetVersionChanges() throws Exception {
+        // Given
+        when(getDatasetVersionUseCase.getDatasetVersion()).thenReturn(7L, 8L);
+        when(getPlayerStatsUseCase.getAllPlayers()).thenReturn(testPlayers);
+        String etag = mockMvc.perform(get("/api/players"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/players").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
     @Test
     void shouldReturn404WhenPlayerNotFound() throws Exception {
         // Given
@@ -158,7 +326,7 @@ class PlayerStatsControllerTest {
     @Test
     void shouldReturnPlayersRanking() throws Exception {
         // Given
-        when(getPlayerRankingUseCase.getPlayersSortedByRank()).thenReturn(testPlayers);
+        when(getPlayerRankingUseCase.getPlayersSortedByRank(0, Integer.MAX_VALUE)).thenReturn(testPlayers);
 
         // When & Then
         mockMvc.perform(get("/api/players/ranking")
@@ -169,6 +337,34 @@ class PlayerStatsControllerTest {
                 .andExpect(jsonPath("$[1].data.rank", is(2)));
     }
 
+    @Test
+    void shouldReturnPlayersRankingPage() throws Exception {
+        // Given
+        when(getPlayerRankingUseCase.getPlayersSortedByRank(1, 1)).thenReturn(List.of(testPlayers.get(1)));
+
+        // When & Then
+        mockMvc.perform(get("/api/players/ranking")
+                        .param("offset", "1")
+                        .param("limit", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].data.rank", is(2)));
+    }
+
+    @Test
+    void shouldReturn400WhenRankingPageIsInvalid() throws Exception {
+        // Given
+        when(getPlayerRankingUseCase.getPlayersSortedByRank(-1, 10))
+                .thenThrow(new IllegalArgumentException("Offset and limit must be positive"));
+
+        // When & Then
+        mockMvc.perform(get("/api/players/ranking")
+                        .param("offset", "-1")
+                        .param("limit", "10"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldReturnCountryWithBestRatio() throws Exception {
         // Given
@@ -191,6 +387,105 @@ class PlayerStatsControllerTest {
                 .andExpect(jsonPath("$.medianHeight", is(182.5)));
     }
 
+    @Test
+    void shouldReturnCountryLeaderboard() throws Exception {
+        // Given
+        when(getCountryLeaderboardUseCase.getCountryLeaderboard(CountryMetric.AVERAGE_BMI, false)).thenReturn(List.of(
+                Statistic.builder().countryCode("USA").winRatio(40.0).averageBMI(22.1).medianHeight(185).build(),
+                Statistic.builder().countryCode("FRA").winRatio(75.5).averageBMI(23.456).medianHeight(182.5).build()));
+
+        // When & Then
+        mockMvc.perform(get("/api/players/country/leaderboard")
+                        .param("sort", "averageBMI")
+                        .param("order", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].countryCode", is("USA")))
+                .andExpect(jsonPath("$[1].countryCode", is("FRA")))
+                .andExpect(jsonPath("$[1].averageBMI", is(23.46)));
+    }
+
+    @Test
+    void shouldReturn400ForUnknownLeaderboardMetricOrOrder() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/players/country/leaderboard").param("sort", "points"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/players/country/leaderboard").param("order", "up"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(getCountryLeaderboardUseCase);
+    }
+
+    @Test
+    void shouldSearchPlayersByCriteria() throws Exception {
+        // Given
+        PlayerSearchCriteria criteria = PlayerSearchCriteria.builder().countryCode("ESP").sex("M").minAge(30).maxRank(10).build();
+        when(searchPlayersUseCase.searchPlayers(criteria, 0, 5)).thenReturn(List.of(testPlayer));
+
+        // When & Then
+        mockMvc.perform(get("/api/players/search")
+                        .param("country", "ESP")
+                        .param("sex", "M")
+                        .param("minAge", "30")
+                        .param("maxRank", "10")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].lastname", is("Nadal")));
+    }
+
+    @Test
+    void shouldSuggestPlayersAndRejectBlankQuery() throws Exception {
+        // Given
+        when(suggestPlayersUseCase.suggestPlayers("nad", 10)).thenReturn(List.of(testPlayer));
+        when(suggestPlayersUseCase.suggestPlayers(" ", 10))
+                .thenThrow(new IllegalArgumentException("Query must contain at least one letter or digit"));
+
+        // When & Then
+        mockMvc.perform(get("/api/players/suggest").param("q", "nad"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].shortname", is("R.NAD")));
+        mockMvc.perform(get("/api/players/suggest").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnPercentiles() throws Exception {
+        // Given
+        when(getPercentilesUseCase.getPercentiles(PlayerMetric.WEIGHT, "FRA", List.of(50.0, 99.9)))
+                .thenReturn(PercentileReport.builder()
+                        .countryCode("FRA")
+                        .metric(PlayerMetric.WEIGHT)
+                        .count(12)
+                        .percentiles(new LinkedHashMap<>(Map.of(50.0, 77.5, 99.9, 90.123)))
+                        .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/players/percentiles")
+                        .param("metric", "weight")
+                        .param("country", "FRA")
+                        .param("p", "50", "99.9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countryCode", is("FRA")))
+                .andExpect(jsonPath("$.metric", is("weight")))
+                .andExpect(jsonPath("$.count", is(12)))
+                .andExpect(jsonPath("$.percentiles.p50", is(77.5)))
+                .andExpect(jsonPath("$.percentiles['p99.9']", is(90.12)));
+    }
+
+    @Test
+    void shouldReturn400Or404ForInvalidPercentileRequests() throws Exception {
+        // Given
+        when(getPercentilesUseCase.getPercentiles(PlayerMetric.HEIGHT, "ITA", List.of(50.0, 90.0, 99.0)))
+                .thenThrow(new NoStatisticAvailableException("No statistic available for ITA"));
+
+        // When & Then
+        mockMvc.perform(get("/api/players/percentiles").param("metric", "points"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/players/percentiles").param("country", "ITA"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void shouldCreateNewPlayer() throws Exception {
         // Given
@@ -272,6 +567,52 @@ class PlayerStatsControllerTest {
                 .andExpect(jsonPath("$.lastname", is("Nadal Updated")));
     }
 
+    @Test
+    void shouldUpdatePlayerOnlyWhenIfMatchVersionIsCurrent() throws Exception {
+        // Given
+        PlayerUpdateRequest request = PlayerUpdateRequest.builder().firstname("Rafa").build();
+        Player updated = testPlayer.toBuilder().firstname("Rafa").version(4).build();
+        when(updatePlayerUseCase.updatePlayer(eq(1L), any(Player.class), eq(3L))).thenReturn(updated);
+        when(updatePlayerUseCase.updatePlayer(eq(1L), any(Player.class), eq(2L)))
+                .thenThrow(new PlayerVersionConflictException("Player 1 is at version 4, expected 2"));
+
+        // When & Then
+        mockMvc.perform(put("/api/players/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.version", is(4)));
+        mockMvc.perform(put("/api/players/1")
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/api/players/1")
+                        .header(HttpHeaders.IF_MATCH, "latest")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectAnUpdateWithMoreResultsThanTheMatchHistoryWindow() throws Exception {
+        // Given
+        PlayerUpdateRequest request = PlayerUpdateRequest.builder()
+                .data(PlayerUpdateRequest.PlayerDataRequest.builder()
+                        .last(Collections.nCopies(MatchHistory.MAX_WINDOW + 1, 1))
+                        .build())
+                .build();
+
+        // When & Then
+        mockMvc.perform(put("/api/players/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(updatePlayerUseCase);
+    }
+
     @Test
     void shouldReturn404WhenUpdateNonExistentPlayer() throws Exception {
         // Given
@@ -289,6 +630,107 @@ class PlayerStatsControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldCreatePlayersInBatch() throws Exception {
+        // Given
+        PlayerCreateRequest valid = PlayerCreateRequest.builder()
+                .firstname("Rafael")
+                .lastname("Nadal")
+                .country(PlayerCreateRequest.CountryRequest.builder().code("ESP").build())
+                .data(PlayerCreateRequest.PlayerDataRequest.builder().rank(1).build())
+                .build();
+        PlayerCreateRequest invalid = PlayerCreateRequest.builder().firstname("Nobody").build();
+        when(createPlayerUseCase.createPlayers(any())).thenAnswer(invocation -> {
+            List<Player> players = invocation.getArgument(0);
+            return players.stream()
+                    .map(player -> BatchItemResult.builder()
+                            .status(BatchItemResult.Status.CREATED)
+                            .id(10L)
+                            .player(player)
+                            .build())
+                    .toList();
+        });
+
+        // When & Then
+        mockMvc.perform(post("/api/players/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(invalid, valid))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].index", is(0)))
+                .andExpect(jsonPath("$[0].status", is("INVALID")))
+                .andExpect(jsonPath("$[0].error", containsString("Last name is required")))
+                .andExpect(jsonPath("$[1].index", is(1)))
+                .andExpect(jsonPath("$[1].status", is("CREATED")))
+                .andExpect(jsonPath("$[1].id", is(10)))
+                .andExpect(jsonPath("$[1].player.firstname", is("Rafael")));
+    }
+
+    @Test
+    void shouldUpdatePlayersInBatch() throws Exception {
+        // Given
+        when(updatePlayerUseCase.updatePlayers(any())).thenReturn(List.of(
+                BatchItemResult.builder().status(BatchItemResult.Status.UPDATED).id(1L).player(testPlayer).build(),
+                BatchItemResult.builder().status(BatchItemResult.Status.NOT_FOUND).id(42L).error("Player not found").build()));
+
+        // When & Then
+        mockMvc.perform(put("/api/players/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                PlayerUpdateRequest.builder().id(1L).firstname("Rafa").build(),
+                                PlayerUpdateRequest.builder().id(42L).firstname("Ghost").build()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status", is("UPDATED")))
+                .andExpect(jsonPath("$[1].status", is("NOT_FOUND")))
+                .andExpect(jsonPath("$[1].id", is(42)));
+    }
+
+    @Test
+    void shouldDeletePlayersInBatch() throws Exception {
+        // Given
+        when(deletePlayerUseCase.deletePlayers(List.of(1L, 42L))).thenReturn(List.of(
+                BatchItemResult.builder().status(BatchItemResult.Status.DELETED).id(1L).build(),
+                BatchItemResult.builder().status(BatchItemResult.Status.NOT_FOUND).id(42L).error("Player not found").build()));
+
+        // When & Then
+        mockMvc.perform(delete("/api/players/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 42]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status", is("DELETED")))
+                .andExpect(jsonPath("$[1].index", is(1)))
+                .andExpect(jsonPath("$[1].status", is("NOT_FOUND")));
+    }
+
+    @Test
+    void shouldRejectBatchItemsWithoutAnId() throws Exception {
+        // Given
+        when(updatePlayerUseCase.updatePlayers(any())).thenReturn(List.of(
+                BatchItemResult.builder().status(BatchItemResult.Status.UPDATED).id(1L).player(testPlayer).build()));
+        when(deletePlayerUseCase.deletePlayers(List.of(1L))).thenReturn(List.of(
+                BatchItemResult.builder().status(BatchItemResult.Status.DELETED).id(1L).build()));
+
+        // When & Then
+        mockMvc.perform(put("/api/players/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                PlayerUpdateRequest.builder().firstname("Nobody").build(),
+                                PlayerUpdateRequest.builder().id(1L).firstname("Rafa").build()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status", is("INVALID")))
+                .andExpect(jsonPath("$[0].error", is("Id is required")))
+                .andExpect(jsonPath("$[1].index", is(1)))
+                .andExpect(jsonPath("$[1].status", is("UPDATED")));
+        mockMvc.perform(delete("/api/players/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[null, 1]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status", is("INVALID")))
+                .andExpect(jsonPath("$[1].index", is(1)))
+                .andExpect(jsonPath("$[1].status", is("DELETED")));
+        verify(updatePlayerUseCase).updatePlayers(argThat(players -> players.size() == 1));
+    }
+
     @Test
     void shouldDeletePlayer() throws Exception {
         // When & Then
@@ -0,0 +1,301 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.domain.model.Country;
+import com.tennis.domain.model.CountryAggregate;
+import com.tennis.domain.model.MatchHistory;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerData;
+import com.tennis.domain.model.PlayerMetric;
+import com.tennis.domain.model.PlayerName;
+import com.tennis.domain.model.PlayerSearchCriteria;
+import com.tennis.domain.model.Statistic;
+import com.tennis.infrastructure.dataset.PlayerDatasetGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarPlayerRepositoryTest {
+
+    private ColumnarPlayerRepository repository;
+    private JsonPlayerRepository reference;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ColumnarPlayerRepository(new ObjectMapper());
+        reference = new JsonPlayerRepository(new ObjectMapper());
+
+        List.of(
+                player("Rafael", "Nadal", "ESP", 1, 85000, 185, Arrays.asList(1, 1, 1, 0, 1)),
+                player("Novak", "Djokovic", "SRB", 2, 80000, 188, Arrays.asList(1, 1, 1, 1, 0)),
+                player("Carlos", "Alcaraz", "ESP", 2, 74000, 183, Arrays.asList(1, 0, 0, 1, 1)),
+                player("Unranked", "Player", "FRA", null, null, null, null),
+                Player.builder().firstname("No").lastname("Data").country(Country.builder().code("FRA").build()).build()
+        ).forEach(player -> {
+            repository.save(player.toBuilder().build());
+            reference.save(player.toBuilder().build());
+        });
+    }
+
+    @Test
+    void shouldRoundTripPlayers() {
+        // When
+        List<Player> players = repository.findAll();
+
+        // Then
+        assertThat(players).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(reference.findAll());
+        assertThat(repository.findById(1L)).get()
+                .extracting(player -> player.getData().getLast())
+                .isEqualTo(List.of(1, 1, 1, 0, 1));
+        assertThat(repository.streamAll()).hasSize(5);
+    }
+
+    @Test
+    void shouldKeepAFullMatchHistoryWindow() {
+        // Given
+        List<Integer> history = IntStream.range(0, MatchHistory.MAX_WINDOW).map(i -> i % 3 == 0 ? 0 : 1).boxed().toList();
+        Player player = player("Long", "History", "ITA", 10, 70000, 180, history);
+
+        // When
+        repository.save(player);
+
+        // Then
+        assertThat(repository.findById(player.getId())).get()
+                .extracting(saved -> saved.getData().getLast())
+                .isEqualTo(history);
+    }
+
+    @Test
+    void shouldRejectAMatchHistoryLongerThanTheWindow() {
+        // Given
+        List<Integer> history = IntStream.range(0, MatchHistory.MAX_WINDOW + 1).map(i -> 1).boxed().toList();
+
+        // When & Then
+        assertThatThrownBy(() -> player("Long", "History", "ITA", 10, 70000, 180, history))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldDeletePlayerAndKeepOtherSlotsAddressable() {
+        // When
+        repository.deleteById(1L);
+
+        // Then
+        assertThat(repository.findById(1L)).isEmpty();
+        assertThat(repository.findAll()).hasSize(4);
+        assertThat(repository.findById(5L)).get()
+                .extracting(Player::getFirstname)
+                .isEqualTo("No");
+    }
+
+    @Test
+    void shouldAllocateIdsAfterTheHighestExistingId() {
+        // Given
+        Player player = player("New", "Player", "USA", 50, null, null, Collections.emptyList());
+
+        // When
+        repository.deleteById(3L);
+        repository.save(player);
+
+        // Then
+        assertThat(player.getId()).isEqualTo(6L);
+    }
+
+    @Test
+    void shouldComputeSameCountryAggregatesAsJsonRepository() {
+        // When
+        List<Statistic> statistics = repository.findCountryAggregates().stream()
+                .map(CountryAggregate::toStatistic)
+                .toList();
+
+        // Then
+        assertThat(statistics).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(reference.findCountryAggregates().stream()
+                        .map(CountryAggregate::toStatistic)
+                        .toList());
+    }
+
+    @Test
+    void shouldComputeSameGlobalPercentilesAsJsonRepository() {
+        // Given
+        List<Double> percentiles = List.of(10.0, 50.0, 99.0);
+
+        // When & Then
+        for (PlayerMetric metric : PlayerMetric.values()) {
+            assertThat(repository.findGlobalAggregate().percentiles(metric, percentiles))
+                    .isEqualTo(reference.findGlobalAggregate().percentiles(metric, percentiles));
+        }
+    }
+
+    @Test
+    void shouldSearchSameBitmapCandidatesAsFullScanAfterWrites() {
+        // Given
+        List<Player> players = new PlayerDatasetGenerator(7).generate(5_000);
+        ColumnarPlayerRepository columnar = new ColumnarPlayerRepository(new ObjectMapper());
+        JsonPlayerRepository json = new JsonPlayerRepository(new ObjectMapper());
+        columnar.saveAll(players.stream().map(player -> player.toBuilder().build()).toList());
+        json.saveAll(players.stream().map(player -> player.toBuilder().build()).toList());
+        Player moved = players.get(10).toBuilder().country(Country.builder().code("ZZZ").build()).build();
+        List.of(columnar, json).forEach(repository -> {
+            repository.save(moved.toBuilder().build());
+            repository.deleteAllById(List.of(1L, 2L, 3L));
+        });
+
+        // When & Then
+        for (PlayerSearchCriteria criteria : List.of(
+                PlayerSearchCriteria.builder().countryCode(players.get(0).getCountry().getCode()).build(),
+                PlayerSearchCriteria.builder().countryCode("ZZZ").build(),
+                PlayerSearchCriteria.builder().sex("F").minAge(27).maxRank(1_234).build(),
+                PlayerSearchCriteria.builder().countryCode(players.get(5).getCountry().getCode()).sex("M").maxRank(250).build(),
+                PlayerSearchCriteria.builder().minAge(200).build())) {
+            List<Long> expected = json.findAll().stream()
+                    .filter(criteria::matches)
+                    .sorted(Comparator.comparing((Player player) -> player.getData().getRank()).thenComparing(Player::getId))
+                    .map(Player::getId)
+                    .toList();
+            assertThat(columnar.search(criteria, 0, Integer.MAX_VALUE)).extracting(Player::getId).isEqualTo(expected);
+            assertThat(json.search(criteria, 0, Integer.MAX_VALUE)).extracting(Player::getId).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldSuggestSameBestRankedPlayersAsFullScanAfterWrites() {
+        // Given
+        List<Player> players = new PlayerDatasetGenerator(11).generate(5_000);
+        ColumnarPlayerRepository columnar = new ColumnarPlayerRepository(new ObjectMapper());
+        JsonPlayerRepository json = new JsonPlayerRepository(new ObjectMapper());
+        columnar.saveAll(players.stream().map(player -> player.toBuilder().build()).toList());
+        json.saveAll(players.stream().map(player -> player.toBuilder().build()).toList());
+        List<Long> topRanked = players.stream()
+                .sorted(Comparator.comparing((Player player) -> player.getData().getRank()))
+                .limit(300)
+                .map(Player::getId)
+                .toList();
+        Player renamed = players.get(42).toBuilder().firstname("Zoé").lastname("Zébulon").build();
+        List.of(columnar, json).forEach(repository -> {
+            repository.deleteAllById(topRanked);
+            repository.save(renamed.toBuilder().build());
+        });
+
+        // When & Then
+        for (String prefix : List.of("a", "m", "ma", "z", "zeb", PlayerName.normalize(players.get(7).getLastname()).substring(0, 2), "x")) {
+            List<Long> expected = json.findAll().stream()
+                    .filter(player -> PlayerName.matches(player, prefix))
+                    .sorted(Comparator.comparing((Player player) -> player.getData().getRank()).thenComparing(Player::getId))
+                    .limit(10)
+                    .map(Player::getId)
+                    .toList();
+            assertThat(columnar.suggest(prefix, 10)).extracting(Player::getId).isEqualTo(expected);
+            assertThat(json.suggest(prefix, 10)).extracting(Player::getId).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldStreamEveryLivePlayerOnceWhileSlotsAreMoved() {
+        // Given
+        Iterator<Player> stream = repository.streamAll().iterator();
+        List<Long> streamed = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            streamed.add(stream.next().getId());
+        }
+
+        // When
+        repository.deleteById(1L);
+        stream.forEachRemaining(player -> streamed.add(player.getId()));
+
+        // Then
+        assertThat(streamed).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void shouldReorderRankingAfterWrites() {
+        // Given
+        assertThat(repository.findAllSortedByRank(0, 2)).extracting(Player::getId).containsExactly(1L, 2L);
+        Player alcaraz = repository.findById(3L).orElseThrow();
+
+        // When
+        repository.save(alcaraz.toBuilder().data(PlayerData.builder().rank(1).build()).build());
+        repository.deleteById(1L);
+
+        // Then
+        assertThat(repository.findAllSortedByRank(0, 10)).extracting(Player::getId).containsExactly(3L, 2L, 4L);
+        assertThat(repository.search(PlayerSearchCriteria.builder().countryCode("ESP").build(), 0, 10))
+                .extracting(Player::getId).containsExactly(3L);
+    }
+
+    @Test
+    void shouldComputeSameCountryAggregatesInParallelOnLargeDatasets() {
+        // Given
+        List<Player> players = new PlayerDatasetGenerator(42).generate(50_000);
+        ColumnarPlayerRepository large = new ColumnarPlayerRepository(new ObjectMapper());
+        large.saveAll(players);
+
+        // When
+        List<Statistic> statistics = sortedStatistics(large.findCountryAggregates());
+
+        // Then
+        assertThat(statistics).usingRecursiveComparison()
+                .withComparatorForType(Comparator.<Double>comparingDouble(value -> Math.round(value * 1e6)), Double.class)
+                .isEqualTo(sortedStatistics(CountryAggregate.groupByCountry(players)));
+    }
+
+    @Test
+    void shouldSortByRankThenId() {
+        // When
+        List<Player> page = repository.findAllSortedByRank(0, 10);
+
+        // Then
+        assertThat(page).extracting(Player::getId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(repository.findAllSortedByRank(1, 2)).extracting(Player::getId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void shouldFindPlayersStoredWithLowerCaseCodes() {
+        // Given
+        Player lowerCase = player("Casper", "Ruud", "nor", 4, 77000, 183, List.of(1, 1, 0));
+        lowerCase.setSex("m");
+        List.of(repository, reference).forEach(store -> store.save(lowerCase.toBuilder().build()));
+
+        // When
+        PlayerSearchCriteria criteria = PlayerSearchCriteria.builder().countryCode("NOR").sex("M").build();
+
+        // Then
+        assertThat(repository.search(criteria, 0, 10)).extracting(Player::getLastname).containsExactly("Ruud");
+        assertThat(reference.search(criteria, 0, 10)).extracting(Player::getLastname).containsExactly("Ruud");
+    }
+
+    private static Player player(String firstname, String lastname, String countryCode,
+                                 Integer rank, Integer weight, Integer height, List<Integer> last) {
+        return Player.builder()
+                .firstname(firstname)
+                .lastname(lastname)
+                .sex("M")
+                .country(Country.builder().code(countryCode).picture(countryCode + ".png").build())
+                .data(PlayerData.builder()
+                        .rank(rank)
+                        .weight(weight)
+                        .height(height)
+                        .last(last)
+                        .build())
+                .build();
+    }
+
+    private static List<Statistic> sortedStatistics(Collection<CountryAggregate> aggregates) {
+        return aggregates.stream()
+                .map(CountryAggregate::toStatistic)
+                .sorted(Comparator.comparing(Statistic::getCountryCode))
+                .toList();
+    }
+}
@@ -2,14 +2,29 @@ package com.tennis.infrastructure.adapter.out.persistence;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tennis.domain.model.Country;
+import com.tennis.domain.model.CountryAggregate;
+import com.tennis.domain.model.PercentileReport;
 import com.tennis.domain.model.Player;
 import com.tennis.domain.model.PlayerData;
+import com.tennis.domain.model.PlayerName;
+import com.tennis.domain.model.PlayerMetric;
+import com.tennis.domain.model.PlayerSearchCriteria;
+import com.tennis.domain.model.Statistic;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -117,6 +132,33 @@ class JsonPlayerRepositoryTest {
         assertThat(newPlayer.getId()).isNotNull();
     }
 
+    @Test
+    void shouldKeepSavedPlayerAwayFromLaterChangesByTheCaller() {
+        // Given
+        Player newPlayer = Player.builder()
+                .firstname("Test")
+                .lastname("Player")
+                .country(Country.builder().code("FRA").build())
+                .data(PlayerData.builder().rank(100).build())
+                .build();
+        repository.save(newPlayer);
+
+        // When
+        newPlayer.setFirstname("Changed");
+        newPlayer.getCountry().setCode("ITA");
+        newPlayer.getData().setRank(1);
+
+        // Then
+        Player stored = repository.findById(newPlayer.getId()).orElseThrow();
+        assertThat(stored.getFirstname()).isEqualTo("Test");
+        assertThat(stored.getCountry().getCode()).isEqualTo("FRA");
+        assertThat(stored.getData().getRank()).isEqualTo(100);
+        assertThat(stored.getVersion()).isEqualTo(newPlayer.getVersion());
+        assertThat(repository.search(PlayerSearchCriteria.builder().countryCode("FRA").build(), 0, 10))
+                .extracting(Player::getId).contains(newPlayer.getId());
+        assertThat(repository.findAllSortedByRank(0, 1)).extracting(Player::getId).doesNotContain(newPlayer.getId());
+    }
+
     @Test
     void shouldUpdateExistingPlayer() {
         // Given
@@ -154,6 +196,189 @@ class JsonPlayerRepositoryTest {
         assertThat(repository.findById(playerId)).isEmpty();
     }
 
+    @Test
+    void shouldBumpVersionOnEveryWrite() {
+        // Given
+        long initialVersion = repository.getVersion();
+
+        // When
+        repository.save(testPlayer1);
+        repository.deleteById(testPlayer2.getId());
+
+        // Then
+        assertThat(repository.getVersion()).isEqualTo(initialVersion + 2);
+        repository.findAll();
+        assertThat(repository.getVersion()).isEqualTo(initialVersion + 2);
+    }
+
+    @Test
+    void shouldNotBumpVersionWhenNothingIsDeleted() {
+        // Given
+        List<Object> events = new ArrayList<>();
+        repository.setApplicationEventPublisher(events::add);
+        long initialVersion = repository.getVersion();
+
+        // When
+        repository.deleteById(99999L);
+        Set<Long> deleted = repository.deleteAllById(List.of(99998L, 99999L));
+
+        // Then
+        assertThat(deleted).isEmpty();
+        assertThat(repository.getVersion()).isEqualTo(initialVersion);
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void shouldSaveAndDeletePlayersInBatch() {
+        // Given
+        List<Player> players = List.of(
+                Player.builder().firstname("First").lastname("Batch").build(),
+                Player.builder().firstname("Second").lastname("Batch").build());
+        long initialVersion = repository.getVersion();
+
+        // When
+        repository.saveAll(players);
+        Set<Long> deleted = repository.deleteAllById(List.of(players.get(0).getId(), 99999L));
+
+        // Then
+        assertThat(players).extracting(Player::getId).containsExactly(3L, 4L);
+        assertThat(deleted).containsExactly(3L);
+        assertThat(repository.findAll()).extracting(Player::getId).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(repository.getVersion()).isEqualTo(initialVersion + 2);
+    }
+
+    @Test
+    void shouldReadAConsistentPointInTimeViewDuringWrites() {
+        // Given
+        List<Player> before = repository.findAll();
+
+        // When
+        repository.deleteById(testPlayer1.getId());
+        repository.save(Player.builder().firstname("Jannik").lastname("Sinner").build());
+
+        // Then
+        assertThat(before).extracting(Player::getFirstname).containsExactly("Rafael", "Novak");
+        assertThat(repository.findAll()).extracting(Player::getFirstname).containsExactly("Novak", "Jannik");
+    }
+
+    @Test
+    void shouldNotReuseIdOfDeletedPlayer() {
+        // Given
+        Long deletedId = testPlayer2.getId();
+        repository.deleteById(deletedId);
+        Player player = Player.builder().firstname("Carlos").lastname("Alcaraz").build();
+
+        // When
+        repository.save(player);
+
+        // Then
+        assertThat(player.getId()).isGreaterThan(deletedId);
+    }
+
+    @Test
+    void shouldReserveIdsAfterExplicitIdsOfTheBatch() {
+        // Given
+        Player explicit = Player.builder().id(100L).firstname("Carlos").lastname("Alcaraz").build();
+        Player generated = Player.builder().firstname("Jannik").lastname("Sinner").build();
+
+        // When
+        repository.saveAll(List.of(generated, explicit));
+
+        // Then
+        assertThat(generated.getId()).isEqualTo(101L);
+    }
+
+    @Test
+    void shouldInsertConcurrentlyWithUniqueIds() throws Exception {
+        // Given
+        int threads = 8;
+        int insertsPerThread = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<List<Long>>> workers = IntStream.range(0, threads)
+                .mapToObj(thread -> executor.submit(() -> IntStream.range(0, insertsPerThread)
+                        .mapToObj(i -> {
+                            Player player = Player.builder()
+                                    .firstname("Player" + thread)
+                                    .lastname("Test" + i)
+                                    .sex(i % 2 == 0 ? "M" : "F")
+                                    .country(Country.builder().code(thread % 2 == 0 ? "FRA" : "ESP").build())
+                                    .data(PlayerData.builder().rank(i + 3).build())
+                                    .build();
+                            repository.save(player);
+                            return player.getId();
+                        })
+                        .toList()))
+                .collect(Collectors.toList());
+        List<Long> ids = new ArrayList<>();
+        for (Future<List<Long>> worker : workers) {
+            ids.addAll(worker.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then
+        int inserted = threads * insertsPerThread;
+        assertThat(Set.copyOf(ids)).hasSize(inserted);
+        assertThat(ids).allMatch(id -> id > 2 && id <= 2 + inserted);
+        assertThat(repository.findAll()).hasSize(2 + inserted);
+        assertThat(repository.findAllSortedByRank(0, Integer.MAX_VALUE)).hasSize(2 + inserted);
+        assertThat(repository.search(PlayerSearchCriteria.builder().countryCode("FRA").build(), 0, Integer.MAX_VALUE))
+                .hasSize(inserted / 2);
+    }
+
+    @Test
+    void shouldReplaceOnlyWhenVersionIsUnchanged() {
+        // Given
+        Player current = repository.findById(testPlayer1.getId()).orElseThrow();
+
+        // When
+        boolean first = repository.replace(current, current.toBuilder().firstname("Rafa").build()).isPresent();
+        boolean second = repository.replace(current, current.toBuilder().firstname("Stale").build()).isPresent();
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(repository.findById(testPlayer1.getId())).get()
+                .satisfies(player -> assertThat(player.getFirstname()).isEqualTo("Rafa"))
+                .satisfies(player -> assertThat(player.getVersion()).isEqualTo(current.getVersion() + 1));
+    }
+
+    @Test
+    void shouldNotLoseConcurrentCompareAndSetUpdates() throws Exception {
+        // Given
+        int threads = 8;
+        int incrementsPerThread = 250;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Long id = testPlayer1.getId();
+
+        // When
+        List<Future<?>> workers = IntStream.range(0, threads)
+                .mapToObj(thread -> executor.submit(() -> {
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        while (true) {
+                            Player current = repository.findById(id).orElseThrow();
+                            PlayerData data = PlayerData.builder()
+                                    .rank(current.getData().getRank())
+                                    .points(current.getData().getPoints() + 1)
+                                    .build();
+                            if (repository.replace(current, current.toBuilder().data(data).build()).isPresent()) {
+                                break;
+                            }
+                        }
+                    }
+                }))
+                .collect(Collectors.toList());
+        for (Future<?> worker : workers) {
+            worker.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(repository.findById(id).orElseThrow().getData().getPoints())
+                .isEqualTo(10000 + threads * incrementsPerThread);
+    }
+
     @Test
     void shouldGenerateUniqueIds() {
         // Given
@@ -180,4 +405,238 @@ class JsonPlayerRepositoryTest {
         assertThat(player2.getId()).isNotNull();
         assertThat(player1.getId()).isNotEqualTo(player2.getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldMaintainCountryAggregatesOnSave() {
+        // Given
+        Player player = Player.builder()
+                .firstname("Carlos")
+                .lastname("Alcaraz")
+                .country(Country.builder().code("ESP").build())
+                .data(PlayerData.builder()
+                        .rank(3)
+                        .weight(74000)
+                        .height(183)
+                        .last(Arrays.asList(1, 0, 1, 0, 1))
+                        .build())
+                .build();
+
+        // When
+        repository.save(player);
+
+        // Then
+        Statistic spain = findCountryStatistic("ESP");
+        assertThat(spain.getWinRatio()).isEqualTo(70.0); // (80 + 60) / 2
+        assertThat(spain.getMedianHeight()).isEqualTo(184.0); // 183 et 185
+    }
+
+    @Test
+    void shouldMoveCountryAggregateWhenPlayerChangesCountry() {
+        // Given
+        testPlayer1.setCountry(Country.builder().code("FRA").build());
+
+        // When
+        repository.save(testPlayer1);
+
+        // Then
+        assertThat(repository.findCountryAggregates())
+                .extracting(CountryAggregate::getCountryCode)
+                .containsExactlyInAnyOrder("SRB", "FRA");
+        assertThat(findCountryStatistic("FRA").getWinRatio()).isEqualTo(80.0);
+    }
+
+    @Test
+    void shouldRemoveCountryAggregateWhenLastPlayerDeleted() {
+        // When
+        repository.deleteById(testPlayer2.getId());
+
+        // Then
+        assertThat(repository.findCountryAggregates())
+                .extracting(CountryAggregate::getCountryCode)
+                .containsExactly("ESP");
+    }
+
+    @Test
+    void shouldMaintainGlobalHistogramsOnSaveAndDelete() {
+        // Given
+        Player noCountry = Player.builder()
+                .firstname("No")
+                .lastname("Country")
+                .data(PlayerData.builder().rank(50).height(200).age(20).build())
+                .build();
+
+        // When
+        repository.save(noCountry);
+        repository.deleteById(testPlayer1.getId());
+
+        // Then
+        PercentileReport heights = repository.findGlobalAggregate().percentiles(PlayerMetric.HEIGHT, List.of(50.0));
+        assertThat(heights.getCount()).isEqualTo(2);
+        assertThat(heights.getPercentiles()).containsEntry(50.0, 194.0); // 188 et 200
+    }
+
+    @Test
+    void shouldReturnPlayersSortedByRank() {
+        // Given
+        Player unranked = Player.builder()
+                .firstname("No")
+                .lastname("Rank")
+                .data(PlayerData.builder().build())
+                .build();
+        Player withoutData = Player.builder()
+                .firstname("No")
+                .lastname("Data")
+                .build();
+        repository.save(unranked);
+        repository.save(withoutData);
+
+        // When
+        List<Player> ranking = repository.findAllSortedByRank(0, Integer.MAX_VALUE);
+
+        // Then
+        assertThat(ranking).extracting(Player::getFirstname)
+                .containsExactly("Rafael", "Novak", "No");
+    }
+
+    @Test
+    void shouldReturnRankingPageAndKeepOrderAfterRankUpdate() {
+        // Given
+        testPlayer1.setData(PlayerData.builder().rank(5).build());
+        repository.save(testPlayer1);
+
+        // When
+        List<Player> top = repository.findAllSortedByRank(0, 1);
+        List<Player> secondPage = repository.findAllSortedByRank(1, 1);
+
+        // Then
+        assertThat(top).extracting(Player::getFirstname).containsExactly("Novak");
+        assertThat(secondPage).extracting(Player::getFirstname).containsExactly("Rafael");
+        assertThat(repository.findAllSortedByRank(2, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldSearchPlayersThroughMaintainedIndexes() {
+        // Given
+        testPlayer2.getData().setRank(150);
+        testPlayer2.getData().setAge(30);
+        repository.save(testPlayer2);
+        repository.save(Player.builder()
+                .firstname("Carlos")
+                .lastname("Alcaraz")
+                .sex("M")
+                .country(Country.builder().code("ESP").build())
+                .data(PlayerData.builder().rank(3).age(21).build())
+                .build());
+
+        // When
+        List<Player> spaniards = repository.search(PlayerSearchCriteria.builder().countryCode("ESP").build(), 0, 10);
+        List<Player> experienced = repository.search(PlayerSearchCriteria.builder().sex("M").minAge(31).build(), 0, 10);
+        List<Player> topHundred = repository.search(PlayerSearchCriteria.builder().maxRank(100).build(), 1, 10);
+
+        // Then
+        assertThat(spaniards).extracting(Player::getFirstname).containsExactly("Rafael", "Carlos");
+        assertThat(experienced).extracting(Player::getFirstname).containsExactly("Rafael");
+        assertThat(topHundred).extracting(Player::getFirstname).containsExactly("Carlos");
+        assertThat(repository.search(PlayerSearchCriteria.builder().countryCode("SRB").maxRank(149).build(), 0, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldSuggestPlayersByNamePrefixOrderedByRank() {
+        // Given
+        repository.save(Player.builder()
+                .firstname("Nicolás")
+                .lastname("Jarry")
+                .shortname("N.JAR")
+                .data(PlayerData.builder().rank(20).build())
+                .build());
+        testPlayer1.setLastname("Parera");
+        repository.save(testPlayer1);
+
+        // When & Then
+        assertThat(repository.suggest("n", 10)).extracting(Player::getLastname).containsExactly("Djokovic", "Jarry");
+        assertThat(repository.suggest("nicolas", 10)).extracting(Player::getLastname).containsExactly("Jarry");
+        assertThat(repository.suggest("rnad", 10)).extracting(Player::getLastname).containsExactly("Parera");
+        assertThat(repository.suggest("nadal", 10)).isEmpty();
+        assertThat(repository.suggest("n", 1)).extracting(Player::getLastname).containsExactly("Djokovic");
+    }
+
+    @Test
+    void shouldSuggestPlayersByEveryWordOfTheirName() {
+        // Given
+        repository.save(Player.builder()
+                .firstname("Juan Martín")
+                .lastname("del Potro")
+                .shortname("J.DEL")
+                .data(PlayerData.builder().rank(30).build())
+                .build());
+        repository.save(Player.builder()
+                .firstname("Jo-Wilfried")
+                .lastname("Tsonga")
+                .shortname("J.TSO")
+                .data(PlayerData.builder().rank(40).build())
+                .build());
+
+        // When & Then
+        assertThat(repository.suggest("potro", 10)).extracting(Player::getLastname).containsExactly("del Potro");
+        assertThat(repository.suggest("martin", 10)).extracting(Player::getLastname).containsExactly("del Potro");
+        assertThat(repository.suggest(PlayerName.normalize("del pot"), 10)).extracting(Player::getLastname)
+                .containsExactly("del Potro");
+        assertThat(repository.suggest("wilfried", 10)).extracting(Player::getLastname).containsExactly("Tsonga");
+        assertThat(repository.suggest(PlayerName.normalize("Jo-Wi"), 10)).extracting(Player::getLastname)
+                .containsExactly("Tsonga");
+        assertThat(repository.suggest(PlayerName.normalize("novak djok"), 10)).extracting(Player::getLastname)
+                .containsExactly("Djokovic");
+    }
+
+    @Test
+    void shouldExposePlayerCountAndIndexSizesAsGauges() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        repository.bindTo(registry);
+
+        // When
+        repository.save(Player.builder()
+                .firstname("Gael")
+                .lastname("Monfils")
+                .country(Country.builder().code("FRA").build())
+                .data(PlayerData.builder().rank(30).build())
+                .build());
+
+        // Then
+        assertThat(registry.get("tennis.players").gauge().value()).isEqualTo(3.0);
+        assertThat(registry.get("tennis.index.size").tag("index", "country").gauge().value()).isEqualTo(3.0);
+        assertThat(registry.get("tennis.index.size").tag("index", "rank").gauge().value()).isEqualTo(3.0);
+        assertThat(registry.get("tennis.index.size").tag("index", "search").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    void shouldShrinkNameIndexBackWhenNestedTokensAreRemoved() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        repository.bindTo(registry);
+        double nodesBefore = registry.get("tennis.index.size").tag("index", "name").gauge().value();
+        Player ann = Player.builder()
+                .firstname("Ann")
+                .lastname("Anna")
+                .shortname("A.ANN")
+                .country(Country.builder().code("FRA").build())
+                .data(PlayerData.builder().rank(40).build())
+                .build();
+        repository.save(ann);
+
+        // When
+        repository.deleteById(ann.getId());
+
+        // Then
+        assertThat(registry.get("tennis.index.size").tag("index", "name").gauge().value()).isEqualTo(nodesBefore);
+        assertThat(repository.suggest("ann", 10)).isEmpty();
+    }
+
+    private Statistic findCountryStatistic(String countryCode) {
+        return repository.findCountryAggregates().stream()
+                .filter(aggregate -> aggregate.getCountryCode().equals(countryCode))
+                .map(CountryAggregate::toStatistic)
+                .findFirst()
+                .orElseThrow();
+    }
+}
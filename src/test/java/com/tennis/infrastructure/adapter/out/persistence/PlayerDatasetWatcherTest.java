@@ -0,0 +1,135 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerSearchCriteria;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlayerDatasetWatcherTest {
+
+    private static final String NADAL = """
+            {"id": 17, "firstname": "Rafael", "lastname": "Nadal", "shortname": "R.NAD", "sex": "M",
+             "country": {"picture": "espagne.png", "code": "ESP"}, "picture": "nadal.png",
+             "data": {"rank": %d, "points": 1982, "weight": 85000, "height": 185, "age": 33, "last": [1, 0, 0, 0, 1]}}
+            """;
+    private static final String DJOKOVIC = """
+            {"id": 52, "firstname": "Novak", "lastname": "Djokovic", "shortname": "N.DJO", "sex": "M",
+             "country": {"picture": "serbie.png", "code": "SRB"}, "picture": "djokovic.png",
+             "data": {"rank": 2, "points": 2542, "weight": 80000, "height": 188, "age": 31, "last": [1, 1, 1, 1, 1]}}
+            """;
+    private static final String WILLIAMS = """
+            {"id": 65, "firstname": "Venus", "lastname": "Williams", "shortname": "V.WIL", "sex": "F",
+             "country": {"picture": "usa.png", "code": "USA"}, "picture": "williams.png",
+             "data": {"rank": 52, "points": 1105, "weight": 74000, "height": 185, "age": 38, "last": [0, 1, 0, 0, 1]}}
+            """;
+    private static final String WAWRINKA = """
+            {"id": 102, "firstname": "Stan", "lastname": "Wawrinka", "shortname": "S.WAW", "sex": "M",
+             "country": {"picture": "suisse.png", "code": "SUI"}, "picture": "wawrinka.png",
+             "data": {"rank": 21, "points": 1784, "weight": 81000, "height": 183, "age": 33, "last": [1, 1, 1, 0, 1]}}
+            """;
+
+    @TempDir
+    Path directory;
+
+    private final List<PlayerDatasetWatcher> watchers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        watchers.forEach(PlayerDatasetWatcher::close);
+    }
+
+    @Test
+    void shouldApplyOnlyChangedPlayersOnReload() throws IOException {
+        // Given
+        Path json = writeJson(players(NADAL.formatted(1), DJOKOVIC, WILLIAMS));
+        JsonPlayerRepository repository = startRepository(json, Optional.empty());
+        Player unchanged = repository.findById(52L).orElseThrow();
+        long version = repository.getVersion();
+
+        // When
+        writeJson(players(DJOKOVIC, NADAL.formatted(3), WAWRINKA));
+        repository.reload(new FileSystemResource(json));
+
+        // Then
+        assertThat(repository.findById(52L)).containsSame(unchanged);
+        assertThat(repository.findById(17L).orElseThrow())
+                .satisfies(nadal -> assertThat(nadal.getData().getRank()).isEqualTo(3))
+                .satisfies(nadal -> assertThat(nadal.getVersion()).isEqualTo(2));
+        assertThat(repository.findById(65L)).isEmpty();
+        assertThat(repository.findById(102L)).isPresent();
+        assertThat(repository.findAllSortedByRank(0, 10)).extracting(Player::getId)
+                .containsExactly(52L, 17L, 102L);
+        assertThat(repository.search(PlayerSearchCriteria.builder().sex("F").build(), 0, 10)).isEmpty();
+        assertThat(repository.suggest("waw", 10)).extracting(Player::getId).containsExactly(102L);
+        assertThat(repository.getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void shouldKeepPlayersWhenReloadedFileIsTruncated() throws IOException {
+        // Given
+        Path json = writeJson(players(NADAL.formatted(1), DJOKOVIC));
+        JsonPlayerRepository repository = startRepository(json, Optional.empty());
+        String truncated = players(NADAL.formatted(3), WAWRINKA);
+
+        // When
+        writeJson(truncated.substring(0, truncated.length() - 10));
+
+        // Then
+        assertThatThrownBy(() -> repository.reload(new FileSystemResource(json)))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(repository.findAll()).extracting(Player::getId).containsExactly(17L, 52L);
+        assertThat(repository.findById(17L).orElseThrow().getData().getRank()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReloadWhenWatchedFileChanges() throws Exception {
+        // Given
+        Path json = writeJson(players(NADAL.formatted(1), DJOKOVIC));
+        PlayerDatasetWatcher watcher = new PlayerDatasetWatcher(Duration.ofMillis(20));
+        watchers.add(watcher);
+        JsonPlayerRepository repository = startRepository(json, Optional.of(watcher));
+
+        // When
+        writeJson(players(NADAL.formatted(1), DJOKOVIC, WAWRINKA));
+        Files.setLastModifiedTime(json, FileTime.fromMillis(Files.getLastModifiedTime(json).toMillis() + 1000));
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (repository.findById(102L).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertThat(repository.findAll()).extracting(Player::getId).containsExactly(17L, 52L, 102L);
+    }
+
+    private static String players(String... players) {
+        return "{\"players\": [" + String.join(",", players) + "]}";
+    }
+
+    private Path writeJson(String content) throws IOException {
+        return Files.writeString(directory.resolve("headtohead.json"), content);
+    }
+
+    private JsonPlayerRepository startRepository(Path json, Optional<PlayerDatasetWatcher> watcher) {
+        JsonPlayerRepository repository = new JsonPlayerRepository(Jackson2ObjectMapperBuilder.json().build(),
+                Optional.empty(), Optional.empty(), watcher);
+        ReflectionTestUtils.setField(repository, "playersResource", new FileSystemResource(json));
+        repository.init();
+        return repository;
+    }
+}
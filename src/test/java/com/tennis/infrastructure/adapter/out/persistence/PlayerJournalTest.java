@@ -0,0 +1,423 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.domain.model.Country;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerChangedEvent;
+import com.tennis.domain.model.PlayerData;
+import com.tennis.domain.model.PlayerReplacement;
+import com.tennis.infrastructure.adapter.in.rest.PlayerResponseCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlayerJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<PlayerJournal> journals = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        journals.forEach(PlayerJournal::close);
+    }
+
+    @Test
+    void shouldRestoreWritesAfterRestart() {
+        // Given
+        JsonPlayerRepository repository = startRepository();
+        Player player = newPlayer("Rafael", "Nadal", 1);
+        repository.save(player);
+        repository.save(newPlayer("Novak", "Djokovic", 2));
+        player.setFirstname("Rafa");
+        repository.save(player);
+
+        // When
+        JsonPlayerRepository restarted = restart();
+
+        // Then
+        assertThat(restarted.findAll()).extracting(Player::getFirstname)
+                .containsExactlyInAnyOrder("Rafa", "Novak");
+        assertThat(restarted.findById(player.getId()).orElseThrow().getData().getLast())
+                .containsExactly(1, 0, 1);
+    }
+
+    @Test
+    void shouldReplayDeletes() {
+        // Given
+        JsonPlayerRepository repository = startRepository();
+        Player player = newPlayer("Rafael", "Nadal", 1);
+        repository.save(player);
+        repository.deleteById(player.getId());
+
+        // When
+        JsonPlayerRepository restarted = restart();
+
+        // Then
+        assertThat(restarted.findAll()).isEmpty();
+        assertThat(restarted.findAllSortedByRank(0, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldNotReuseIdsOfReplayedDeletesAfterRestart() {
+        // Given
+        JsonPlayerRepository repository = startRepository();
+        repository.save(newPlayer("Rafael", "Nadal", 1));
+        Player deleted = newPlayer("Novak", "Djokovic", 2);
+        repository.save(deleted);
+        repository.deleteById(deleted.getId());
+
+        // When
+        JsonPlayerRepository restarted = restart();
+        Player player = newPlayer("Carlos", "Alcaraz", 3);
+        restarted.save(player);
+
+        // Then
+        assertThat(player.getId()).isGreaterThan(deleted.getId());
+    }
+
+    @Test
+    void shouldKeepAcknowledgedWritesAfterAFailedPartialWrite() {
+        // Given
+        JsonPlayerRepository repository = startRepository();
+        repository.save(newPlayer("Rafael", "Nadal", 1));
+        PlayerJournal journal = journals.get(0);
+        FileChannel segment = (FileChannel) ReflectionTestUtils.getField(journal, "segment");
+        ReflectionTestUtils.setField(journal, "segment", new FailingOnceChannel(segment));
+
+        // When
+        assertThatThrownBy(() -> repository.save(newPlayer("Novak", "Djokovic", 2)))
+                .isInstanceOf(RuntimeException.class);
+        repository.save(newPlayer("Carlos", "Alcaraz", 3));
+        List<Player> inMemory = List.copyOf(repository.findAll());
+        JsonPlayerRepository restarted = restart();
+
+        // Then
+        assertThat(inMemory).extracting(Player::getFirstname).containsExactly("Rafael", "Carlos");
+        assertThat(repository.findAllSortedByRank(0, 10)).extracting(Player::getFirstname)
+                .containsExactly("Rafael", "Carlos");
+        assertThat(restarted.findAll()).extracting(Player::getFirstname)
+                .containsExactly("Rafael", "Carlos");
+    }
+
+    @Test
+    void shouldInvalidateReadsOfAWriteThatIsRevertedAfterAFailure() {
+        // Given
+        JsonPlayerRepository repository = startRepository();
+        PlayerResponseCache cache = new PlayerResponseCache(Jackson2ObjectMapperBuilder.json().build(), 16,
+                DataSize.ofMegabytes(1));
+        repository.setApplicationEventPublisher(event -> cache.onPlayerChanged((PlayerChangedEvent) event));
+        Player player = newPlayer("Novak", "Djokovic", 2);
+        repository.save(player);
+        Long id = player.getId();
+        long version = repository.getVersion();
+        PlayerJournal journal = journals.get(0);
+        FileChannel segment = (FileChannel) ReflectionTestUtils.getField(journal, "segment");
+        ReflectionTestUtils.setField(journal, "segment", new FailingOnceChannel(segment,
+                () -> cache.player(id, () -> repository.findById(id))));
+
+        // When
+        assertThatThrownBy(() -> repository.save(player.toBuilder().firstname("Nole").build()))
+                .isInstanceOf(RuntimeException.class);
+        byte[] body = cache.player(id, () -> repository.findById(id)).orElseThrow();
+
+        // Then
+        assertThat(new String(body, StandardCharsets.UTF_8)).contains("\"firstname\":\"Novak\"");
+        assertThat(repository.getVersion()).isGreaterThan(version);
+    }
+
+    @Test
+    void shouldRejectAppendsAfterClose() {
+        // Given
+        startRepository();
+        PlayerJournal journal = journals.get(0);
+
+        // When
+        journal.close();
+
+        // Then
+        assertThat(journal.appendDelete(1L)).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldIgnoreTornRecordAtTheEndOfTheJournal() throws IOException {
+        // Given
+        JsonPlayerRepository repository = startRepository();
+        repository.save(newPlayer("Rafael", "Nadal", 1));
+        repository.save(newPlayer("Novak", "Djokovic", 2));
+        journals.get(0).close();
+
+        Path segment = listSegments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        // When
+        JsonPlayerRepository restarted = restart();
+
+        // Then
+        assertThat(restarted.findAll()).extracting(Player::getFirstname).containsExactly("Rafael");
+    }
+
+    @Test
+    void shouldCompactJournalIntoSnapshot() throws IOException {
+        // Given
+        JsonPlayerRepository repository = startRepository();
+        Player player = newPlayer("Rafael", "Nadal", 1);
+        repository.save(player);
+        repository.save(newPlayer("Novak", "Djokovic", 2));
+
+        // When
+        journals.get(0).compact();
+        repository.deleteById(player.getId());
+        JsonPlayerRepository restarted = restart();
+
+        // Then
+        assertThat(directory.resolve(PlayerJournal.SNAPSHOT_FILE)).exists();
+        assertThat(listSegments()).allMatch(segment -> !segment.getFileName().toString().endsWith("00000000000000000000.journal"));
+        assertThat(restarted.findAll()).extracting(Player::getFirstname).containsExactly("Novak");
+    }
+
+    @Test
+    void shouldNotReuseIdsDeletedBeforeCompactionAfterRestart() {
+        // Given
+        JsonPlayerRepository repository = startRepository();
+        repository.save(newPlayer("Rafael", "Nadal", 1));
+        Player deleted = newPlayer("Novak", "Djokovic", 2);
+        repository.save(deleted);
+        repository.deleteById(deleted.getId());
+
+        // When
+        journals.get(0).compact();
+        JsonPlayerRepository restarted = restart();
+        Player player = newPlayer("Carlos", "Alcaraz", 3);
+        restarted.save(player);
+
+        // Then
+        assertThat(player.getId()).isGreaterThan(deleted.getId());
+    }
+
+    @Test
+    void shouldGroupConcurrentWritesIntoFewerCommits() throws Exception {
+        // Given
+        JsonPlayerRepository repository = startRepository();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<?>> saves = new ArrayList<>();
+
+        // When
+        for (long id = 1; id <= 400; id++) {
+            Player player = newPlayer("Player" + id, "Test", (int) id);
+            player.setId(id);
+            saves.add(executor.submit(() -> repository.save(player)));
+        }
+        for (Future<?> save : saves) {
+            save.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(journals.get(0).groupCommits()).isLessThan(400);
+        assertThat(restart().findAll()).hasSize(400);
+    }
+
+    @Test
+    void shouldReplaceABatchWithVersionChecksInFewCommits() {
+        // Given
+        JsonPlayerRepository repository = startRepository();
+        List<Player> players = new ArrayList<>();
+        for (int rank = 1; rank <= 200; rank++) {
+            players.add(newPlayer("Player" + rank, "Test", rank));
+        }
+        repository.saveAll(players);
+        Player stale = players.get(0).copy();
+        repository.save(players.get(0).toBuilder().firstname("Concurrent").build());
+        long commits = journals.get(0).groupCommits();
+        long version = repository.getVersion();
+
+        // When
+        Map<Long, Player> stored = repository.replaceAll(players.stream()
+                .map(player -> new PlayerReplacement(player.getId().equals(stale.getId()) ? stale : player,
+                        player.toBuilder().firstname("Batch").build()))
+                .toList());
+
+        // Then
+        assertThat(stored).hasSize(199).doesNotContainKey(stale.getId());
+        assertThat(stored.values()).allSatisfy(player -> assertThat(player.getVersion()).isEqualTo(2));
+        assertThat(journals.get(0).groupCommits() - commits).isLessThan(100);
+        assertThat(repository.getVersion()).isEqualTo(version + 1);
+        assertThat(restart().findAll()).extracting(Player::getFirstname)
+                .containsOnly("Batch", "Concurrent")
+                .containsOnlyOnce("Concurrent");
+    }
+
+    private JsonPlayerRepository startRepository() {
+        PlayerJournal journal = new PlayerJournal(directory, Duration.ofHours(1));
+        journals.add(journal);
+        JsonPlayerRepository repository = new JsonPlayerRepository(new ObjectMapper(), Optional.of(journal), Optional.empty(), Optional.empty());
+        repository.init();
+        return repository;
+    }
+
+    private JsonPlayerRepository restart() {
+        journals.forEach(PlayerJournal::close);
+        return startRepository();
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".journal")).sorted().toList();
+        }
+    }
+
+    private static final class FailingOnceChannel extends FileChannel {
+        private final FileChannel delegate;
+        private final Runnable beforeFailure;
+        private boolean failed;
+
+        FailingOnceChannel(FileChannel delegate) {
+            this(delegate, () -> { });
+        }
+
+        FailingOnceChannel(FileChannel delegate, Runnable beforeFailure) {
+            this.delegate = delegate;
+            this.beforeFailure = beforeFailure;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (failed) {
+                return delegate.write(src);
+            }
+            failed = true;
+            beforeFailure.run();
+            ByteBuffer half = src.slice(src.position(), src.remaining() / 2);
+            src.position(src.position() + delegate.write(half));
+            throw new IOException("Disk full");
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+
+    private static Player newPlayer(String firstname, String lastname, int rank) {
+        return Player.builder()
+                .firstname(firstname)
+                .lastname(lastname)
+                .country(Country.builder().code("ESP").picture("spain.png").build())
+                .data(PlayerData.builder()
+                        .rank(rank)
+                        .weight(85000)
+                        .height(185)
+                        .last(Arrays.asList(1, 0, 1))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.dataset.PlayerDatasetGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlayerJsonLoaderTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void shouldLoadPlayersInFileOrderAcrossChunks() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new PlayerDatasetGenerator(42).write(2500, PlayerDatasetGenerator.Format.JSON, output);
+        PlayerJsonLoader loader = new PlayerJsonLoader(objectMapper, 4, 100);
+        List<Player> loaded = new ArrayList<>();
+
+        // When
+        PlayerLoadReport report = loader.stream(new ByteArrayResource(output.toByteArray()), loaded::add);
+
+        // Then
+        assertThat(report.loaded()).isEqualTo(2500);
+        assertThat(report.rejected()).isZero();
+        assertThat(report.playersPerSecond()).isPositive();
+        assertThat(loaded).isEqualTo(new PlayerDatasetGenerator(42).generate(2500));
+    }
+
+    @Test
+    void shouldReportInvalidRecordsAndKeepLoading() throws IOException {
+        // Given
+        String json = """
+                {"version": 2, "players": [
+                  {"id": 1, "firstname": "Rafael", "lastname": "Nadal", "data": {"rank": 1}},
+                  {"firstname": "Novak", "lastname": "Djokovic"},
+                  {"id": 3, "firstname": "Stan", "lastname": "Wawrinka", "data": {"rank": "first"}},
+                  null,
+                  {"id": 5, "firstname": "Serena"},
+                  {"id": 0, "firstname": "Zero", "lastname": "Player"},
+                  {"id": 6, "firstname": "Venus", "lastname": "Williams", "data": {"rank": 52}}
+                ], "source": {"name": "atp"}}
+                """;
+        PlayerJsonLoader loader = new PlayerJsonLoader(objectMapper, 2, 2);
+        List<Player> loaded = new ArrayList<>();
+
+        // When
+        PlayerLoadReport report = loader.stream(resource(json), loaded::add);
+
+        // Then
+        assertThat(loaded).extracting(Player::getId).containsExactly(1L, 6L);
+        assertThat(report.loaded()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(5);
+        assertThat(report.errors()).hasSize(5);
+        assertThat(report.errors().get(0)).startsWith("players[1]: ").contains("id");
+        assertThat(report.errors().get(1)).startsWith("players[2]: ");
+        assertThat(report.errors().get(2)).startsWith("players[3]: ");
+        assertThat(report.errors().get(3)).startsWith("players[4]: ").contains("last name");
+        assertThat(report.errors().get(4)).startsWith("players[5]: ").contains("positive id");
+    }
+
+    @Test
+    void shouldCapReportedErrors() throws IOException {
+        // Given
+        String players = String.join(",", IntStream.range(0, PlayerJsonLoader.MAX_REPORTED_ERRORS + 50)
+                .mapToObj(i -> "{\"firstname\": \"Anonymous\"}")
+                .toList());
+        PlayerJsonLoader loader = new PlayerJsonLoader(objectMapper, 2, 16);
+
+        // When
+        PlayerLoadReport report = loader.stream(resource("{\"players\": [" + players + "]}"), player -> { });
+
+        // Then
+        assertThat(report.rejected()).isEqualTo(PlayerJsonLoader.MAX_REPORTED_ERRORS + 50);
+        assertThat(report.errors()).hasSize(PlayerJsonLoader.MAX_REPORTED_ERRORS);
+    }
+
+    @Test
+    void shouldFailOnTruncatedFile() {
+        // Given
+        String json = "{\"players\": [{\"id\": 1, \"firstname\": \"Rafael\", \"lastname\": \"Nadal\"}, {\"id\": 2";
+        PlayerJsonLoader loader = new PlayerJsonLoader(objectMapper, 2, 1);
+
+        // When & Then
+        assertThatThrownBy(() -> loader.stream(resource(json), player -> { }))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static ByteArrayResource resource(String json) {
+        return new ByteArrayResource(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,165 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.tennis.domain.model.Country;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.model.PlayerData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlayerSnapshotStoreTest {
+
+    private static final String PLAYERS_JSON = """
+            {"players": [
+              {"id": 52, "firstname": "Novak", "lastname": "Djokovic", "shortname": "N.DJO", "sex": "M",
+               "country": {"picture": "serbie.png", "code": "SRB"}, "picture": "djokovic.png",
+               "data": {"rank": 2, "points": 2542, "weight": 80000, "height": 188, "age": 31, "last": [1, 1, 1, 1, 1]}},
+              {"id": 17, "firstname": "Rafael", "lastname": "Nadal", "shortname": "R.NAD", "sex": "M",
+               "country": {"picture": "espagne.png", "code": "ESP"}, "picture": "nadal.png",
+               "data": {"rank": 1, "points": 1982, "weight": 85000, "height": 185, "age": 33, "last": [1, 0, 0, 0, 1]}}
+            ]}
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldWriteSnapshotAfterJsonLoadAndReloadFromIt() throws IOException {
+        // Given
+        Path json = writeJson(PLAYERS_JSON);
+        startRepository(json);
+        Path snapshot = directory.resolve("dataset.snapshot");
+        assertThat(snapshot).exists();
+
+        // When
+        JsonPlayerRepository restarted = startRepository(json);
+
+        // Then
+        assertThat(restarted.findAll()).extracting(Player::getFirstname)
+                .containsExactlyInAnyOrder("Novak", "Rafael");
+        Player nadal = restarted.findById(17L).orElseThrow();
+        assertThat(nadal.getCountry().getCode()).isEqualTo("ESP");
+        assertThat(nadal.getData().getLast()).containsExactly(1, 0, 0, 0, 1);
+        assertThat(restarted.findAllSortedByRank(0, 1)).extracting(Player::getId).containsExactly(17L);
+    }
+
+    @Test
+    void shouldFallBackToJsonWhenSnapshotIsCorrupted() throws IOException {
+        // Given
+        Path json = writeJson(PLAYERS_JSON);
+        startRepository(json);
+        try (FileChannel channel = FileChannel.open(directory.resolve("dataset.snapshot"), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 10);
+        }
+
+        // When
+        JsonPlayerRepository restarted = startRepository(json);
+
+        // Then
+        assertThat(restarted.findAll()).hasSize(2);
+    }
+
+    @Test
+    void shouldIgnoreSnapshotWhenJsonChanged() throws IOException {
+        // Given
+        startRepository(writeJson(PLAYERS_JSON));
+
+        // When
+        JsonPlayerRepository restarted = startRepository(writeJson("{\"players\": []}"));
+
+        // Then
+        assertThat(restarted.findAll()).isEmpty();
+    }
+
+    @Test
+    void shouldReadRecordsAcrossSeveralMappedWindows() throws IOException {
+        // Given
+        List<Player> players = IntStream.rangeClosed(1, 200)
+                .mapToObj(id -> Player.builder()
+                        .id((long) id)
+                        .firstname("Player" + id)
+                        .lastname("Test")
+                        .country(Country.builder().code("FRA").build())
+                        .data(PlayerData.builder().rank(id).last(Arrays.asList(1, 0)).build())
+                        .build())
+                .toList();
+        Path snapshot = directory.resolve("windows.snapshot");
+        PlayerSnapshotFile.write(snapshot, 0, 0, 250, players);
+
+        // When
+        List<Player> loaded = new ArrayList<>();
+        PlayerSnapshotFile.Header header = PlayerSnapshotFile.read(snapshot, loaded::add, 1000);
+
+        // Then
+        assertThat(header.playerCount()).isEqualTo(200);
+        assertThat(header.lastId()).isEqualTo(250);
+        assertThat(loaded).isEqualTo(players);
+    }
+
+    @Test
+    void shouldReadSnapshotsWrittenBeforeTheLastIdWasRecorded() throws IOException {
+        // Given
+        Player player = Player.builder().id(7L).firstname("Rafael").lastname("Nadal").build();
+        Path snapshot = directory.resolve("legacy.snapshot");
+        PlayerSnapshotFile.write(snapshot, 3, 42, 7, List.of(player));
+        ByteBuffer current = ByteBuffer.wrap(Files.readAllBytes(snapshot));
+        ByteBuffer legacy = ByteBuffer.allocate(current.capacity() - Long.BYTES)
+                .putInt(current.getInt())
+                .putInt(1)
+                .putLong(current.getLong(8))
+                .putLong(current.getLong(16))
+                .put(current.position(32));
+        Files.write(snapshot, legacy.array());
+
+        // When
+        List<Player> loaded = new ArrayList<>();
+        PlayerSnapshotFile.Header header = PlayerSnapshotFile.read(snapshot, loaded::add);
+
+        // Then
+        assertThat(header).isEqualTo(new PlayerSnapshotFile.Header(3, 42, 0, 1));
+        assertThat(loaded).containsExactly(player);
+    }
+
+    @Test
+    void shouldRefuseToShareTheJournalSnapshotFile() {
+        // Given
+        PlayerJournal journal = new PlayerJournal(directory, Duration.ofHours(1));
+        PlayerSnapshotStore snapshotStore = new PlayerSnapshotStore(directory.resolve(PlayerJournal.SNAPSHOT_FILE));
+
+        // When & Then
+        assertThatThrownBy(() -> new JsonPlayerRepository(Jackson2ObjectMapperBuilder.json().build(),
+                Optional.of(journal), Optional.of(snapshotStore), Optional.empty()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Path writeJson(String content) throws IOException {
+        return Files.writeString(directory.resolve("headtohead.json"), content);
+    }
+
+    private JsonPlayerRepository startRepository(Path json) {
+        PlayerSnapshotStore snapshotStore = new PlayerSnapshotStore(directory.resolve("dataset.snapshot"));
+        JsonPlayerRepository repository = new JsonPlayerRepository(Jackson2ObjectMapperBuilder.json().build(),
+                Optional.empty(), Optional.of(snapshotStore), Optional.empty());
+        ReflectionTestUtils.setField(repository, "playersResource", new FileSystemResource(json));
+        repository.init();
+        return repository;
+    }
+}
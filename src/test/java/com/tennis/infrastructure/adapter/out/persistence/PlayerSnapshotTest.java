@@ -0,0 +1,61 @@
+package com.tennis.infrastructure.adapter.out.persistence;
+
+import com.tennis.domain.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerSnapshotTest {
+
+    @Test
+    void shouldKeepPreviousVersionsUnchangedAfterWrites() {
+        // Given
+        PlayerSnapshot first = PlayerSnapshot.EMPTY.with(player(1)).with(player(40));
+
+        // When
+        PlayerSnapshot second = first.with(player(1_000_000)).without(1L);
+
+        // Then
+        assertThat(first.players()).extracting(Player::getId).containsExactly(1L, 40L);
+        assertThat(second.players()).extracting(Player::getId).containsExactly(40L, 1_000_000L);
+        assertThat(first.get(1_000_000L)).isNull();
+        assertThat(second.get(1L)).isNull();
+    }
+
+    @Test
+    void shouldBehaveLikeASortedMapUnderRandomWrites() {
+        // Given
+        Random random = new Random(42);
+        TreeMap<Long, Player> expected = new TreeMap<>();
+        PlayerSnapshot snapshot = PlayerSnapshot.EMPTY;
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            long id = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(id);
+                snapshot = snapshot.without(id);
+            } else {
+                Player player = player(id);
+                expected.put(id, player);
+                snapshot = snapshot.with(player);
+            }
+        }
+
+        // Then
+        List<Player> players = snapshot.players();
+        assertThat(players).containsExactlyElementsOf(expected.values());
+        assertThat(players.get(players.size() / 2)).isSameAs(List.copyOf(expected.values()).get(players.size() / 2));
+        assertThat(snapshot.size()).isEqualTo(expected.size());
+        PlayerSnapshot result = snapshot;
+        expected.forEach((id, player) -> assertThat(result.get(id)).isSameAs(player));
+    }
+
+    private static Player player(long id) {
+        return Player.builder().id(id).firstname("Player").lastname(String.valueOf(id)).build();
+    }
+}
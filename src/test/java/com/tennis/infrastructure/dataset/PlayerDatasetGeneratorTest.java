@@ -0,0 +1,126 @@
+package com.tennis.infrastructure.dataset;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.domain.model.Player;
+import com.tennis.infrastructure.adapter.out.persistence.JsonPlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerDatasetGeneratorTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void shouldGenerateSameDatasetForSameSeed() {
+        // When
+        List<Player> first = new PlayerDatasetGenerator(7).generate(500);
+        List<Player> second = new PlayerDatasetGenerator(7).generate(500);
+        List<Player> other = new PlayerDatasetGenerator(8).generate(500);
+
+        // Then
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(other);
+    }
+
+    @Test
+    void shouldNotShiftTheDatasetOfANeighbouringSeed() {
+        // Given
+        List<Player> first = new PlayerDatasetGenerator(7).generate(500);
+        List<Player> next = new PlayerDatasetGenerator(8).generate(500);
+
+        // When
+        long shifted = IntStream.range(0, 499)
+                .filter(i -> profile(next.get(i)).equals(profile(first.get(i + 1))))
+                .count();
+
+        // Then
+        assertThat(shifted).isLessThan(10);
+    }
+
+    @Test
+    void shouldGenerateUniqueRanksAndRealisticValues() {
+        // When
+        List<Player> players = new PlayerDatasetGenerator(42).generate(1000);
+
+        // Then
+        Set<Integer> ranks = players.stream().map(player -> player.getData().getRank()).collect(Collectors.toSet());
+        assertThat(ranks).hasSize(1000).allMatch(rank -> rank >= 1 && rank <= 1000);
+        assertThat(players).extracting(Player::getId).doesNotHaveDuplicates();
+        assertThat(players).allSatisfy(player -> {
+            assertThat(player.getData().getHeight()).isBetween(150, 215);
+            assertThat(player.getData().getLast()).hasSizeBetween(5, 20);
+            assertThat(Double.parseDouble(player.getData().getBMI())).isBetween(16.5, 30.5);
+        });
+    }
+
+    @Test
+    void shouldFavourTopRankedPlayersAndLargeCountries() {
+        // When
+        List<Player> players = new PlayerDatasetGenerator(42).generate(10_000);
+
+        // Then
+        double topWinRate = averageWinRate(players, 1, 1000);
+        double bottomWinRate = averageWinRate(players, 9001, 10_000);
+        assertThat(topWinRate).isGreaterThan(bottomWinRate + 20);
+        long usa = players.stream().filter(player -> player.getCountry().getCode().equals("USA")).count();
+        long fin = players.stream().filter(player -> player.getCountry().getCode().equals("FIN")).count();
+        assertThat(usa).isGreaterThan(10 * fin);
+    }
+
+    @Test
+    void shouldWriteJsonLoadableByRepository() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new PlayerDatasetGenerator(42).write(2000, PlayerDatasetGenerator.Format.JSON, output);
+        JsonPlayerRepository repository = new JsonPlayerRepository(objectMapper);
+        ReflectionTestUtils.setField(repository, "playersResource", new ByteArrayResource(output.toByteArray()));
+
+        // When
+        repository.init();
+
+        // Then
+        assertThat(repository.findAll()).hasSize(2000);
+        assertThat(repository.findById(1L)).contains(new PlayerDatasetGenerator(42).generate(2000).get(0));
+        assertThat(repository.findAllSortedByRank(0, 1)).extracting(player -> player.getData().getRank())
+                .containsExactly(1);
+    }
+
+    @Test
+    void shouldWriteOnePlayerPerLineAsNdjson() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        new PlayerDatasetGenerator(42).write(3, PlayerDatasetGenerator.Format.NDJSON, output);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readValue(lines[2], Player.class))
+                .isEqualTo(new PlayerDatasetGenerator(42).generate(3).get(2));
+    }
+
+    private double averageWinRate(List<Player> players, int fromRank, int toRank) {
+        return players.stream()
+                .filter(player -> player.getData().getRank() >= fromRank && player.getData().getRank() <= toRank)
+                .mapToDouble(player -> player.getData().getWinRate())
+                .average()
+                .orElseThrow();
+    }
+
+    private static List<Object> profile(Player player) {
+        return List.of(player.getFirstname(), player.getLastname(), player.getCountry().getCode(),
+                player.getData().getHeight(), player.getData().getWeight());
+    }
+}
@@ -0,0 +1,126 @@
+package com.tennis.infrastructure.logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccessLogTest {
+
+    @Test
+    void shouldDefaultToTheSampleRateOfTheApplicationConfiguration() {
+        // Given
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+
+        // When
+        String configured = yaml.getObject().getProperty("tennis.access-log.sample-rate");
+
+        // Then
+        assertThat(configured).isEqualTo("${ACCESS_LOG_SAMPLE_RATE:" + AccessLog.DEFAULT_SAMPLE_RATE + "}");
+    }
+
+    @Test
+    void shouldRecordEveryRequestWhenFullySampled() {
+        // Given
+        AccessLog accessLog = new AccessLog(true, 1.0, 16);
+
+        // When
+        accessLog.http("GET", "/api/players/1", 200, 1_500_000);
+        accessLog.write("save", 1, 40_000);
+
+        // Then
+        assertThat(accessLog.drain()).isEqualTo(2);
+        assertThat(accessLog.drain()).isZero();
+    }
+
+    @Test
+    void shouldAlwaysRecordServerErrorsWhenNotSampled() {
+        // Given
+        AccessLog accessLog = new AccessLog(true, 0.0, 16);
+
+        // When
+        accessLog.http("GET", "/api/players", 200, 1_000);
+        accessLog.http("GET", "/api/players", 500, 1_000);
+        accessLog.write("save", 1, 1_000);
+
+        // Then
+        assertThat(accessLog.drain()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropEntriesWhenBufferIsFull() {
+        // Given
+        AccessLog accessLog = new AccessLog(true, 1.0, 4);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        accessLog.bindTo(registry);
+
+        // When
+        for (int i = 0; i < 6; i++) {
+            accessLog.http("GET", "/api/players", 200, 1_000);
+        }
+
+        // Then
+        assertThat(accessLog.getDropped()).isEqualTo(2);
+        assertThat(registry.get("tennis.access.log.dropped").functionCounter().count()).isEqualTo(2.0);
+        assertThat(accessLog.drain()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldIgnoreEntriesWhenDisabled() {
+        // Given
+        AccessLog accessLog = AccessLog.disabled();
+
+        // When
+        accessLog.http("GET", "/api/players", 500, 1_000);
+
+        // Then
+        assertThat(accessLog.drain()).isZero();
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new AccessLog(true, 1.5, 16)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AccessLog(true, 1.0, 100)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldNotLoseEntriesOfConcurrentProducers() throws Exception {
+        // Given
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(1 << 14);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        for (int producer = 0; producer < 4; producer++) {
+            int offset = producer * 1000;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1000; i++) {
+                    buffer.offer(offset + i);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        List<Integer> values = new ArrayList<>();
+        for (Integer value = buffer.poll(); value != null; value = buffer.poll()) {
+            values.add(value);
+        }
+        assertThat(values).hasSize(4000).doesNotHaveDuplicates();
+    }
+}
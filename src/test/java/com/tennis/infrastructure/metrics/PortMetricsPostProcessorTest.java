@@ -0,0 +1,81 @@
+package com.tennis.infrastructure.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennis.domain.model.Player;
+import com.tennis.domain.port.in.GetPlayerStatsUseCase;
+import com.tennis.domain.port.out.PlayerRepository;
+import com.tennis.domain.service.PlayerService;
+import com.tennis.infrastructure.adapter.out.persistence.JsonPlayerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortMetricsPostProcessorTest {
+
+    private SimpleMeterRegistry registry;
+    private PortMetricsPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+        postProcessor = new PortMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void shouldTimeRepositoryAndUseCaseCalls() {
+        // Given
+        PlayerRepository repository = (PlayerRepository) postProcessor.postProcessAfterInitialization(
+                new JsonPlayerRepository(new ObjectMapper()), "jsonPlayerRepository");
+        GetPlayerStatsUseCase useCase = (GetPlayerStatsUseCase) postProcessor.postProcessAfterInitialization(
+                new PlayerService(repository), "playerService");
+
+        // When
+        repository.save(Player.builder().firstname("Rafael").lastname("Nadal").build());
+        useCase.getAllPlayers();
+        useCase.getAllPlayers();
+
+        // Then
+        Timer save = registry.get(PortMetricsPostProcessor.REPOSITORY_TIMER).tag("method", "save").timer();
+        Timer findAll = registry.get(PortMetricsPostProcessor.REPOSITORY_TIMER).tag("method", "findAll").timer();
+        Timer getAllPlayers = registry.get(PortMetricsPostProcessor.USE_CASE_TIMER)
+                .tags("port", "GetPlayerStatsUseCase", "method", "getAllPlayers")
+                .timer();
+        assertThat(save.count()).isEqualTo(1);
+        assertThat(findAll.count()).isEqualTo(2);
+        assertThat(getAllPlayers.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepBeanTypeAndIgnoreMethodsOutsideThePorts() {
+        // Given
+        Object proxy = postProcessor.postProcessAfterInitialization(
+                new JsonPlayerRepository(new ObjectMapper()), "jsonPlayerRepository");
+
+        // When
+        ((JsonPlayerRepository) proxy).setApplicationEventPublisher(event -> { });
+
+        // Then
+        assertThat(proxy).isInstanceOf(JsonPlayerRepository.class);
+        assertThat(registry.find(PortMetricsPostProcessor.REPOSITORY_TIMER)
+                .tag("method", "setApplicationEventPublisher").timer()).isNull();
+    }
+
+    @Test
+    void shouldLeaveOtherBeansUntouched() {
+        // Given
+        Object bean = new Object();
+
+        // When
+        Object processed = postProcessor.postProcessAfterInitialization(bean, "other");
+
+        // Then
+        assertThat(processed).isSameAs(bean);
+    }
+}